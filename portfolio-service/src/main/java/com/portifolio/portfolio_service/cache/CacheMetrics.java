@@ -0,0 +1,48 @@
+package com.portifolio.portfolio_service.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+/**
+ * Shared pieces of the cache instrumentation.
+ */
+public final class CacheMetrics {
+
+    public static final String LOAD_TIMER = "cache.load";
+
+    private CacheMetrics() {
+    }
+
+    /**
+     * Load latency of one cache, published as a percentile histogram so load times can be
+     * aggregated across replicas. {@code mode} is "inline" for loads a caller waits for and
+     * "refresh" for background refreshes.
+     */
+    public static Timer loadTimer(MeterRegistry meterRegistry, String cacheName, String mode) {
+        return Timer.builder(LOAD_TIMER)
+                .description("Time spent loading a cache entry from its source")
+                .tag("cache", cacheName)
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the provider cache underneath the single-flight, refresh-ahead and transaction decorators
+     */
+    public static Cache unwrap(Cache cache) {
+        while (true) {
+            if (cache instanceof RefreshAheadCache refreshAhead) {
+                cache = refreshAhead.getDelegate();
+            } else if (cache instanceof SingleFlightCache singleFlight) {
+                cache = singleFlight.getDelegate();
+            } else if (cache instanceof TransactionAwareCacheDecorator transactionAware) {
+                cache = transactionAware.getTargetCache();
+            } else {
+                return cache;
+            }
+        }
+    }
+}
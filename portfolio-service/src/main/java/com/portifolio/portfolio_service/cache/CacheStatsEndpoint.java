@@ -0,0 +1,200 @@
+package com.portifolio.portfolio_service.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.config.ResourcePool;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.SizedResourcePool;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actuator endpoint ({@code /actuator/portfoliocaches}) with a per-cache summary for sizing and
+ * tuning: JCache hit/miss/eviction statistics, load latency from the {@code cache.load} timers,
+ * the configured heap and off-heap capacity, and the current entry count and serialized size.
+ *
+ * <p>Ehcache does not expose per-tier occupancy through JCache, so entries and bytes are measured
+ * on demand by walking the cache (bytes are extrapolated from a sample of serialized values).
+ * They are therefore not published as gauges, only computed when the endpoint is read, and only
+ * when {@code portfolio.cache.stats.occupancy} is on: a walk touches every entry of every cache,
+ * so it is meant for sizing sessions, not routine scraping. Like the other actuator endpoints
+ * apart from health and info, this one requires the ADMIN role (see SecurityConfig).</p>
+ */
+@Component
+@Endpoint(id = "portfoliocaches")
+@RequiredArgsConstructor
+@Slf4j
+public class CacheStatsEndpoint {
+
+    private static final int SIZE_SAMPLE = 50;
+
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${portfolio.cache.stats.occupancy:false}")
+    private boolean occupancyEnabled;
+
+    @ReadOperation
+    public Map<String, CacheSummary> caches() {
+        Map<String, CacheSummary> summaries = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            summaries.put(name, cache(name));
+        }
+        return summaries;
+    }
+
+    @ReadOperation
+    public CacheSummary cache(@Selector String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            return null;
+        }
+        Object nativeCache = CacheMetrics.unwrap(cache).getNativeCache();
+        javax.cache.Cache<?, ?> jCache = nativeCache instanceof javax.cache.Cache<?, ?> c ? c : null;
+
+        Map<String, Object> statistics = statistics(name);
+        long loads = 0;
+        double loadMillis = 0;
+        double maxLoadMillis = 0;
+        for (Timer timer : meterRegistry.find(CacheMetrics.LOAD_TIMER).tag("cache", name).timers()) {
+            loads += timer.count();
+            loadMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+            maxLoadMillis = Math.max(maxLoadMillis, timer.max(TimeUnit.MILLISECONDS));
+        }
+        double coalescedLoads = meterRegistry.find("cache.loads.coalesced").tag("cache", name).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+        // -1: not measured
+        Occupancy occupancy = jCache == null ? new Occupancy(0, 0)
+                : occupancyEnabled ? occupancy(jCache) : new Occupancy(-1, -1);
+
+        return new CacheSummary(
+                number(statistics.get("CacheHits")),
+                number(statistics.get("CacheMisses")),
+                number(statistics.get("CacheHitPercentage")) / 100,
+                number(statistics.get("CachePuts")),
+                number(statistics.get("CacheEvictions")),
+                number(statistics.get("AverageGetTime")),
+                loads,
+                loads == 0 ? 0 : loadMillis / loads,
+                maxLoadMillis,
+                (long) coalescedLoads,
+                occupancy.entries(),
+                occupancy.bytes(),
+                jCache != null ? capacity(jCache, ResourceType.Core.HEAP) : null,
+                jCache != null ? capacity(jCache, ResourceType.Core.OFFHEAP) : null);
+    }
+
+    private static Map<String, Object> statistics(String name) {
+        Map<String, Object> statistics = new TreeMap<>();
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            // Registered by Ehcache because ehcache.xml enables JSR-107 statistics
+            Set<ObjectName> names = mBeanServer.queryNames(
+                    new ObjectName("javax.cache:type=CacheStatistics,Cache=" + name + ",*"), null);
+            for (ObjectName objectName : names) {
+                for (String attribute : new String[]{"CacheHits", "CacheMisses", "CacheHitPercentage",
+                        "CachePuts", "CacheEvictions", "AverageGetTime"}) {
+                    statistics.put(attribute, mBeanServer.getAttribute(objectName, attribute));
+                }
+            }
+        } catch (Exception e) {
+            log.debug("No JCache statistics for cache '{}': {}", name, e.getMessage());
+        }
+        return statistics;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Occupancy occupancy(javax.cache.Cache<?, ?> jCache) {
+        // Iterate the Ehcache cache directly: the JCache iterator would count every entry as a hit
+        Iterator<? extends org.ehcache.Cache.Entry<?, ?>> entries;
+        try {
+            entries = jCache.unwrap(org.ehcache.Cache.class).iterator();
+        } catch (IllegalArgumentException e) {
+            return new Occupancy(0, 0);
+        }
+        long count = 0;
+        long sampledBytes = 0;
+        int sampled = 0;
+        while (entries.hasNext()) {
+            org.ehcache.Cache.Entry<?, ?> entry = entries.next();
+            count++;
+            if (sampled < SIZE_SAMPLE) {
+                sampledBytes += serializedSize(entry.getValue());
+                sampled++;
+            }
+        }
+        return new Occupancy(count, sampled == 0 ? 0 : sampledBytes * count / sampled);
+    }
+
+    private static long serializedSize(Object value) {
+        CountingOutputStream counter = new CountingOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            return 0;
+        }
+        return counter.count;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static String capacity(javax.cache.Cache<?, ?> jCache, ResourceType<?> type) {
+        try {
+            Eh107Configuration<?, ?> configuration =
+                    (Eh107Configuration<?, ?>) ((javax.cache.Cache) jCache).getConfiguration(Eh107Configuration.class);
+            ResourcePool pool = configuration.unwrap(CacheRuntimeConfiguration.class).getResourcePools()
+                    .getPoolForResource(type);
+            return pool instanceof SizedResourcePool sized ? sized.getSize() + " " + sized.getUnit() : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number number ? number.doubleValue() : 0;
+    }
+
+    public record CacheSummary(double hits, double misses, double hitRatio, double puts, double evictions,
+                               double averageGetMicros, long loads, double averageLoadMillis, double maxLoadMillis,
+                               long coalescedLoads, long entries, long estimatedBytes,
+                               String heapCapacity, String offHeapCapacity) {
+    }
+
+    private record Occupancy(long entries, long bytes) {
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
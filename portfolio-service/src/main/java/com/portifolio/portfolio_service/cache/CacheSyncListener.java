@@ -0,0 +1,122 @@
+package com.portifolio.portfolio_service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portifolio.portfolio_service.dto.ExperienceDto;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.SortedStringSet;
+import com.portifolio.portfolio_service.dto.TagNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies changes published by other replicas to the local caches.
+ *
+ * <p>Every replica consumes the whole topic in its own consumer group, starting from the latest
+ * offset. Records arrive in batches; a batch is first collapsed to the newest change per entity,
+ * and a change is only applied if it is newer than the last version seen for that entity,
+ * locally or remotely. Versions are the entities' JPA {@code @Version} counters, so the order
+ * does not depend on the replicas' clocks. Replayed or duplicated records are therefore
+ * harmless. Reloads carry no data and are always applied.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class CacheSyncListener {
+
+    private static final int MAX_TRACKED_ENTITIES = 10_000;
+
+    private final PortfolioCacheMaintainer cacheMaintainer;
+    private final ObjectMapper objectMapper;
+    private final CacheSyncPublisher publisher;
+
+    private final Map<String, Long> seenVersions = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_TRACKED_ENTITIES;
+        }
+    };
+
+    public String getGroupId() {
+        return "portfolio-service-cache-sync-" + publisher.getOrigin();
+    }
+
+    public String getTopic() {
+        return publisher.getTopic();
+    }
+
+    @KafkaListener(topics = "#{__listener.topic}", groupId = "#{__listener.groupId}",
+            containerFactory = "cacheSyncListenerContainerFactory")
+    public void onMessages(List<String> records) {
+        Map<String, PortfolioChangeEvent> latest = new LinkedHashMap<>();
+        for (String record : records) {
+            PortfolioChangeEvent event = decode(record);
+            if (event != null) {
+                latest.merge(event.key(), event, (a, b) -> b.version() >= a.version() ? b : a);
+            }
+        }
+        for (PortfolioChangeEvent event : latest.values()) {
+            if (markSeen(event)) {
+                cacheMaintainer.applyRemote(event);
+            }
+        }
+    }
+
+    @EventListener
+    public void onLocalChange(PortfolioChangeEvent event) {
+        markSeen(event);
+    }
+
+    private synchronized boolean markSeen(PortfolioChangeEvent event) {
+        if (event.type() == PortfolioChangeEvent.Type.RELOADED) {
+            return true;
+        }
+        Long seen = seenVersions.get(event.key());
+        if (seen != null && seen >= event.version()) {
+            return false;
+        }
+        seenVersions.put(event.key(), event.version());
+        return true;
+    }
+
+    private PortfolioChangeEvent decode(String record) {
+        try {
+            CacheSyncMessage message = objectMapper.readValue(record, CacheSyncMessage.class);
+            if (publisher.getOrigin().equals(message.origin())) {
+                return null;
+            }
+            Object payload = message.payload() != null && !message.payload().isNull()
+                    ? objectMapper.treeToValue(message.payload(), message.aggregate().getDtoType())
+                    : null;
+            if (message.type() == PortfolioChangeEvent.Type.SAVED && payload == null) {
+                return null;
+            }
+            return new PortfolioChangeEvent(message.aggregate(), message.type(), message.id(), message.version(),
+                    normalize(payload));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Skipping malformed cache sync record: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Jackson fills the DTO collections with fresh {@code HashSet}s of unpooled strings. The
+     * payload goes into the caches, the read model and the tag index, so it gets the same
+     * immutable, pooled sets as the DTOs mapped locally.
+     */
+    private static Object normalize(Object payload) {
+        if (payload instanceof ProjectDto project) {
+            project.setTechnologies(TagNames.intern(project.getTechnologies()));
+            project.setCategories(TagNames.intern(project.getCategories()));
+        } else if (payload instanceof ExperienceDto experience) {
+            experience.setResponsibilities(SortedStringSet.of(experience.getResponsibilities()));
+            experience.setTechnologies(TagNames.intern(experience.getTechnologies()));
+        }
+        return payload;
+    }
+}
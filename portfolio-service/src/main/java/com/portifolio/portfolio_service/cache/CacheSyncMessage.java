@@ -0,0 +1,13 @@
+package com.portifolio.portfolio_service.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Wire format of a {@link PortfolioChangeEvent} on the cache sync topic.
+ *
+ * @param origin  the publishing replica, so it can skip its own changes
+ * @param payload the saved DTO as JSON, or null for deletes
+ */
+public record CacheSyncMessage(String origin, PortfolioAggregate aggregate, PortfolioChangeEvent.Type type,
+                               Long id, long version, JsonNode payload) {
+}
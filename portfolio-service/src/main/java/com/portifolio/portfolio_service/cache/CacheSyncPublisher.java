@@ -0,0 +1,44 @@
+package com.portifolio.portfolio_service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * Ships local {@link PortfolioChangeEvent}s to the cache sync topic, keyed by entity so
+ * changes to one entity stay ordered within a partition. Sends are asynchronous and
+ * batched by the producer; a failed send only leaves other replicas stale until their
+ * entries refresh, so it is logged rather than propagated to the admin request.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class CacheSyncPublisher {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    @Getter
+    private final String topic;
+    @Getter
+    private final String origin;
+
+    @EventListener
+    public void onChange(PortfolioChangeEvent event) {
+        try {
+            CacheSyncMessage message = new CacheSyncMessage(origin, event.aggregate(), event.type(), event.id(),
+                    event.version(), event.payload() != null ? objectMapper.valueToTree(event.payload()) : null);
+            kafkaTemplate.send(topic, event.key(), objectMapper.writeValueAsString(message))
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.warn("Failed to publish cache sync event for {}: {}", event.key(), ex.getMessage());
+                        }
+                    });
+        } catch (JsonProcessingException | KafkaException e) {
+            log.warn("Failed to publish cache sync event for {}: {}", event.key(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.portifolio.portfolio_service.cache;
+
+import com.portifolio.portfolio_service.repository.UserProfileRepository;
+import com.portifolio.portfolio_service.service.ExperienceService;
+import com.portifolio.portfolio_service.service.ProjectService;
+import com.portifolio.portfolio_service.service.SkillService;
+import com.portifolio.portfolio_service.service.UserProfileService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Warms the public read path before the instance takes traffic.
+ *
+ * <p>Runs synchronously on {@link ApplicationReadyEvent}. Spring Boot only moves readiness to
+ * ACCEPTING_TRAFFIC after every ready listener has returned, so /actuator/health/readiness (and
+ * the Eureka status, with eureka.client.healthcheck.enabled) stays out of service until the
+ * caches are loaded. Optionally replays a number of synthetic GETs against the public endpoints
+ * over loopback, which also exercises the filters, Jackson and the JIT.</p>
+ *
+ * <p>Failures are logged and never block startup: a cold cache is still a working cache.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheWarmer {
+
+    private static final List<String> PUBLIC_PATHS = List.of(
+            "/api/public/projects",
+            "/api/public/projects/featured",
+            "/api/public/skills",
+            "/api/public/experiences",
+            "/api/public/experiences/current");
+
+    private final ProjectService projectService;
+    private final SkillService skillService;
+    private final ExperienceService experienceService;
+    private final UserProfileService userProfileService;
+    private final UserProfileRepository userProfileRepository;
+    private final RestTemplate restTemplate;
+
+    @Value("${portfolio.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${portfolio.warmup.synthetic-requests:0}")
+    private int syntheticRequests;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+
+        warm("projects", projectService::getAllProjects);
+        warm("featured projects", projectService::getFeaturedProjects);
+        warm("skills", skillService::getAllSkills);
+        warm("experiences", experienceService::getAllExperiences);
+        warm("current experiences", experienceService::getCurrentExperiences);
+
+        List<String> usernames = new ArrayList<>();
+        warm("profile usernames", () -> usernames.addAll(userProfileRepository.findAllUsernames()));
+        for (String username : usernames) {
+            warm("profile " + username, () -> userProfileService.getUserProfileByUsername(username));
+        }
+
+        if (syntheticRequests > 0 && event.getApplicationContext() instanceof WebServerApplicationContext web) {
+            sendSyntheticRequests(web.getWebServer().getPort(), usernames);
+        }
+
+        log.info("Cache warm-up finished in {} ms", System.currentTimeMillis() - start);
+    }
+
+    private void sendSyntheticRequests(int port, List<String> usernames) {
+        List<String> paths = new ArrayList<>(PUBLIC_PATHS);
+        usernames.forEach(username -> paths.add("/api/public/profiles/" + username));
+
+        int failures = 0;
+        for (int i = 0; i < syntheticRequests; i++) {
+            String url = "http://localhost:" + port + paths.get(i % paths.size());
+            try {
+                restTemplate.getForObject(url, byte[].class);
+            } catch (RestClientException e) {
+                failures++;
+            }
+        }
+        log.info("Sent {} synthetic warm-up requests ({} failed)", syntheticRequests, failures);
+    }
+
+    private void warm(String name, Runnable loader) {
+        try {
+            loader.run();
+        } catch (RuntimeException e) {
+            log.warn("Warm-up of {} failed: {}", name, e.getMessage());
+        }
+    }
+}
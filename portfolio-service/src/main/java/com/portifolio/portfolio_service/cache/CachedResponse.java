@@ -0,0 +1,10 @@
+package com.portifolio.portfolio_service.cache;
+
+import java.io.Serializable;
+
+/**
+ * A fully serialized public GET response: the UTF-8 JSON body, its hex MD5 digest (the
+ * content part of the ETag) and, when it was worth compressing, the same body gzipped.
+ */
+public record CachedResponse(String contentType, byte[] body, String digest, byte[] gzipBody) implements Serializable {
+}
@@ -0,0 +1,44 @@
+package com.portifolio.portfolio_service.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic per-aggregate content version, bumped by {@link PortfolioCacheMaintainer}
+ * after every committed write. Anything derived from public data (serialized responses,
+ * HTTP validators) can key on the version instead of tracking individual changes.
+ *
+ * <p>Counters start at zero on every start, so {@link #tag} prefixes them with this
+ * instance's start time: a validator issued before a restart, or by another replica,
+ * never matches by accident.</p>
+ */
+@Component
+public class ContentVersions {
+
+    private final Map<PortfolioAggregate, AtomicLong> versions = new EnumMap<>(PortfolioAggregate.class);
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    public ContentVersions() {
+        for (PortfolioAggregate aggregate : PortfolioAggregate.values()) {
+            versions.put(aggregate, new AtomicLong());
+        }
+    }
+
+    public long current(PortfolioAggregate aggregate) {
+        return versions.get(aggregate).get();
+    }
+
+    public long bump(PortfolioAggregate aggregate) {
+        return versions.get(aggregate).incrementAndGet();
+    }
+
+    /**
+     * @return an opaque token that changes whenever the aggregate's content changes
+     */
+    public String tag(PortfolioAggregate aggregate) {
+        return epoch + "-" + current(aggregate);
+    }
+}
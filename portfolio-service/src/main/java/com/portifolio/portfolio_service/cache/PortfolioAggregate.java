@@ -0,0 +1,42 @@
+package com.portifolio.portfolio_service.cache;
+
+import com.portifolio.portfolio_service.dto.ExperienceDto;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.SkillDto;
+import com.portifolio.portfolio_service.dto.UserProfileDto;
+
+/**
+ * The independently versioned parts of the public portfolio, the
+ * /api/public path prefix each one is served under and the DTO it caches.
+ */
+public enum PortfolioAggregate {
+
+    PROJECTS("/api/public/projects", ProjectDto.class),
+    SKILLS("/api/public/skills", SkillDto.class),
+    EXPERIENCES("/api/public/experiences", ExperienceDto.class),
+    PROFILES("/api/public/profiles", UserProfileDto.class);
+
+    private final String pathPrefix;
+    private final Class<?> dtoType;
+
+    PortfolioAggregate(String pathPrefix, Class<?> dtoType) {
+        this.pathPrefix = pathPrefix;
+        this.dtoType = dtoType;
+    }
+
+    public Class<?> getDtoType() {
+        return dtoType;
+    }
+
+    /**
+     * @return the aggregate whose public endpoints serve the given request path, or null
+     */
+    public static PortfolioAggregate forPath(String path) {
+        for (PortfolioAggregate aggregate : values()) {
+            if (path.equals(aggregate.pathPrefix) || path.startsWith(aggregate.pathPrefix + "/")) {
+                return aggregate;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,353 @@
+package com.portifolio.portfolio_service.cache;
+
+import com.portifolio.portfolio_service.dto.ExperienceDto;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.SkillDto;
+import com.portifolio.portfolio_service.dto.UserProfileDto;
+import com.portifolio.portfolio_service.model.Experience;
+import com.portifolio.portfolio_service.model.Project;
+import com.portifolio.portfolio_service.model.Skill;
+import com.portifolio.portfolio_service.model.UserProfile;
+import com.portifolio.portfolio_service.service.PortfolioReadModel;
+import com.portifolio.portfolio_service.service.ProjectTagIndex;
+import com.portifolio.portfolio_service.service.TagSuggester;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Applies admin writes to the warm portfolio caches instead of clearing them.
+ * The affected by-id entry is replaced or removed and the cached list views are
+ * patched with the new DTO, so public traffic keeps hitting the cache after an edit.
+ * Keyset pages shift on every write, so the small page caches are the only ones cleared.
+ * Changes are applied after the surrounding transaction commits, and finish by bumping the
+ * aggregate's {@link ContentVersions} version so derived response caches move on too.
+ * Each applied local write is then published as a {@link PortfolioChangeEvent}, versioned by
+ * the entity's JPA {@code @Version} after the write (one past it for deletes).
+ * Changes from other replicas also evict the Hibernate second-level cache regions they
+ * touch, since Hibernate only invalidates those for writes made through this node.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioCacheMaintainer {
+
+    private static final String PROJECTS = "projects";
+    private static final String FEATURED_PROJECTS = "featuredProjects";
+    private static final String PROJECT = "project";
+    private static final String PROJECT_PAGES = "projectPages";
+    private static final String SKILLS = "skills";
+    private static final String SKILL = "skill";
+    private static final String SKILL_PAGES = "skillPages";
+    private static final String EXPERIENCES = "experiences";
+    private static final String CURRENT_EXPERIENCES = "currentExperiences";
+    private static final String EXPERIENCE = "experience";
+    private static final String EXPERIENCE_PAGES = "experiencePages";
+    private static final String PROFILES = "profiles";
+    private static final String MISSING_PROFILES = "missingProfiles";
+
+    // Matches "ORDER BY e.startDate DESC, e.id DESC" in ExperienceRepository (Postgres sorts NULLs first)
+    private static final Comparator<ExperienceDto> EXPERIENCE_ORDER = Comparator.comparing(
+                    ExperienceDto::getStartDate, Comparator.nullsFirst(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(ExperienceDto::getId, Comparator.reverseOrder());
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ContentVersions contentVersions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PortfolioReadModel readModel;
+    private final ProjectTagIndex projectTagIndex;
+    private final TagSuggester tagSuggester;
+
+    public void projectSaved(ProjectDto project, long version) {
+        afterCommit(PortfolioChangeEvent.saved(PortfolioAggregate.PROJECTS, project.getId(), version, project));
+    }
+
+    public void projectDeleted(Long id, long version) {
+        afterCommit(PortfolioChangeEvent.deleted(PortfolioAggregate.PROJECTS, id, version));
+    }
+
+    public void skillSaved(SkillDto skill, long version) {
+        afterCommit(PortfolioChangeEvent.saved(PortfolioAggregate.SKILLS, skill.getId(), version, skill));
+    }
+
+    public void skillDeleted(Long id, long version) {
+        afterCommit(PortfolioChangeEvent.deleted(PortfolioAggregate.SKILLS, id, version));
+    }
+
+    public void experienceSaved(ExperienceDto experience, long version) {
+        afterCommit(PortfolioChangeEvent.saved(PortfolioAggregate.EXPERIENCES, experience.getId(), version, experience));
+    }
+
+    public void experienceDeleted(Long id, long version) {
+        afterCommit(PortfolioChangeEvent.deleted(PortfolioAggregate.EXPERIENCES, id, version));
+    }
+
+    /**
+     * Bulk change to an aggregate: its caches are cleared once after commit instead of being
+     * patched per entity.
+     */
+    public void reloaded(PortfolioAggregate aggregate) {
+        afterCommit(PortfolioChangeEvent.reloaded(aggregate));
+    }
+
+    public void profileSaved(UserProfileDto profile, long version) {
+        afterCommit(PortfolioChangeEvent.saved(PortfolioAggregate.PROFILES, profile.getId(), version, profile));
+    }
+
+    /**
+     * Remembers that no profile exists for the username (negative cache, short TTL).
+     */
+    public void profileMissing(String username) {
+        put(MISSING_PROFILES, username, Boolean.TRUE);
+    }
+
+    public boolean isProfileMissing(String username) {
+        Cache cache = cacheManager.getCache(MISSING_PROFILES);
+        return cache != null && cache.get(username) != null;
+    }
+
+    /**
+     * Applies a change to the local caches, the read model, the project tag index and the
+     * tag suggestions. Used for local writes after commit and, through {@link #applyRemote},
+     * for changes received from other replicas.
+     */
+    public void apply(PortfolioChangeEvent event) {
+        readModel.apply(event);
+        projectTagIndex.apply(event);
+        tagSuggester.apply(event);
+        if (event.type() == PortfolioChangeEvent.Type.RELOADED) {
+            applyReloaded(event.aggregate());
+            return;
+        }
+        boolean saved = event.type() == PortfolioChangeEvent.Type.SAVED;
+        switch (event.aggregate()) {
+            case PROJECTS -> {
+                if (saved) {
+                    applyProjectSaved((ProjectDto) event.payload());
+                } else {
+                    applyProjectDeleted(event.id());
+                }
+            }
+            case SKILLS -> {
+                if (saved) {
+                    applySkillSaved((SkillDto) event.payload());
+                } else {
+                    applySkillDeleted(event.id());
+                }
+            }
+            case EXPERIENCES -> {
+                if (saved) {
+                    applyExperienceSaved((ExperienceDto) event.payload());
+                } else {
+                    applyExperienceDeleted(event.id());
+                }
+            }
+            case PROFILES -> {
+                if (saved) {
+                    applyProfileSaved((UserProfileDto) event.payload());
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies a change received from another replica. The entity and collection regions of
+     * the changed entity (or of the whole aggregate, for {@link PortfolioChangeEvent.Type#RELOADED})
+     * and the query result regions are evicted first, so the reloads triggered by
+     * {@link #apply} read the committed rows rather than this node's stale second-level copies.
+     */
+    public void applyRemote(PortfolioChangeEvent event) {
+        evictSecondLevel(event);
+        apply(event);
+    }
+
+    private void evictSecondLevel(PortfolioChangeEvent event) {
+        org.hibernate.Cache secondLevel = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+        Class<?> entityType = switch (event.aggregate()) {
+            case PROJECTS -> Project.class;
+            case SKILLS -> Skill.class;
+            case EXPERIENCES -> Experience.class;
+            case PROFILES -> UserProfile.class;
+        };
+        List<String> collections = switch (event.aggregate()) {
+            case PROJECTS -> List.of("technologies", "categories");
+            case EXPERIENCES -> List.of("responsibilities", "technologies");
+            case SKILLS, PROFILES -> List.of();
+        };
+        if (event.id() == null) {
+            secondLevel.evictEntityData(entityType);
+            collections.forEach(collection -> secondLevel.evictCollectionData(entityType.getName() + "." + collection));
+        } else {
+            secondLevel.evictEntityData(entityType, event.id());
+            collections.forEach(collection ->
+                    secondLevel.evictCollectionData(entityType.getName() + "." + collection, event.id()));
+        }
+        // The update timestamps region is local, so remote writes never invalidate cached query results
+        secondLevel.evictQueryRegions();
+    }
+
+    private void applyProjectSaved(ProjectDto project) {
+        put(PROJECT, project.getId(), project);
+        patchList(PROJECTS, project.getId(), project, ProjectDto::getId, null);
+        patchList(FEATURED_PROJECTS, project.getId(), project.isFeatured() ? project : null, ProjectDto::getId, null);
+        clear(PROJECT_PAGES);
+        contentVersions.bump(PortfolioAggregate.PROJECTS);
+    }
+
+    private void applyProjectDeleted(Long id) {
+        evict(PROJECT, id);
+        patchList(PROJECTS, id, null, ProjectDto::getId, null);
+        patchList(FEATURED_PROJECTS, id, null, ProjectDto::getId, null);
+        clear(PROJECT_PAGES);
+        contentVersions.bump(PortfolioAggregate.PROJECTS);
+    }
+
+    private void applySkillSaved(SkillDto skill) {
+        put(SKILL, skill.getId(), skill);
+        patchList(SKILLS, skill.getId(), skill, SkillDto::getId, null);
+        clear(SKILL_PAGES);
+        contentVersions.bump(PortfolioAggregate.SKILLS);
+    }
+
+    private void applySkillDeleted(Long id) {
+        evict(SKILL, id);
+        patchList(SKILLS, id, null, SkillDto::getId, null);
+        clear(SKILL_PAGES);
+        contentVersions.bump(PortfolioAggregate.SKILLS);
+    }
+
+    private void applyExperienceSaved(ExperienceDto experience) {
+        put(EXPERIENCE, experience.getId(), experience);
+        patchList(EXPERIENCES, experience.getId(), experience, ExperienceDto::getId, EXPERIENCE_ORDER);
+        patchList(CURRENT_EXPERIENCES, experience.getId(), experience.isCurrent() ? experience : null,
+                ExperienceDto::getId, EXPERIENCE_ORDER);
+        clear(EXPERIENCE_PAGES);
+        contentVersions.bump(PortfolioAggregate.EXPERIENCES);
+    }
+
+    private void applyExperienceDeleted(Long id) {
+        evict(EXPERIENCE, id);
+        patchList(EXPERIENCES, id, null, ExperienceDto::getId, null);
+        patchList(CURRENT_EXPERIENCES, id, null, ExperienceDto::getId, null);
+        clear(EXPERIENCE_PAGES);
+        contentVersions.bump(PortfolioAggregate.EXPERIENCES);
+    }
+
+    private void applyReloaded(PortfolioAggregate aggregate) {
+        List<String> cacheNames = switch (aggregate) {
+            case PROJECTS -> List.of(PROJECTS, FEATURED_PROJECTS, PROJECT, PROJECT_PAGES);
+            case SKILLS -> List.of(SKILLS, SKILL, SKILL_PAGES);
+            case EXPERIENCES -> List.of(EXPERIENCES, CURRENT_EXPERIENCES, EXPERIENCE, EXPERIENCE_PAGES);
+            case PROFILES -> List.of(PROFILES, MISSING_PROFILES);
+        };
+        cacheNames.forEach(this::clear);
+        contentVersions.bump(aggregate);
+    }
+
+    private void applyProfileSaved(UserProfileDto profile) {
+        put(PROFILES, profile.getUsername(), profile);
+        evict(MISSING_PROFILES, profile.getUsername());
+        contentVersions.bump(PortfolioAggregate.PROFILES);
+    }
+
+    private void afterCommit(PortfolioChangeEvent event) {
+        afterCommit(() -> {
+            apply(event);
+            eventPublisher.publishEvent(event);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void put(String cacheName, Object key, Object value) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.put(key, value);
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Replaces (or removes, when {@code replacement} is null) the element with the given id
+     * in a cached list view. A list that is not cached is left alone; the next read loads it.
+     * Updated elements keep their position unless an explicit order is given. Either way a
+     * list load already in flight is superseded and will not overwrite the result.
+     */
+    private synchronized <T> void patchList(String cacheName, Long id, T replacement,
+                                            Function<T, Long> idOf, Comparator<T> order) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        try {
+            Cache.ValueWrapper cached = cache.get(SimpleKey.EMPTY);
+            if (cached == null || !(cached.get() instanceof List<?> current)) {
+                // Nothing to patch, but a load may be in flight with rows read before this commit:
+                // the evict keeps it from caching them (see SingleFlightCache)
+                cache.evict(SimpleKey.EMPTY);
+                return;
+            }
+
+            List<T> patched = new ArrayList<>(current.size() + 1);
+            boolean replaced = false;
+            for (Object element : current) {
+                @SuppressWarnings("unchecked")
+                T item = (T) element;
+                if (!id.equals(idOf.apply(item))) {
+                    patched.add(item);
+                } else if (replacement != null) {
+                    patched.add(replacement);
+                    replaced = true;
+                }
+            }
+            if (replacement != null && !replaced) {
+                patched.add(replacement);
+            }
+            if (replacement != null && order != null) {
+                patched.sort(order);
+            }
+            cache.put(SimpleKey.EMPTY, patched);
+        } catch (RuntimeException e) {
+            log.warn("Could not patch cache '{}' for id {}, evicting it instead: {}", cacheName, id, e.getMessage());
+            cache.evict(SimpleKey.EMPTY);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.portifolio.portfolio_service.cache;
+
+/**
+ * A committed write to the public portfolio, as applied to the caches by
+ * {@link PortfolioCacheMaintainer}. Published as an application event once the local
+ * caches are updated, and shipped to the other replicas by {@link CacheSyncPublisher}.
+ *
+ * @param aggregate the part of the portfolio that changed
+ * @param type      whether the entity was saved or deleted, or the whole aggregate reloaded
+ * @param id        the entity id, or null for {@link Type#RELOADED}
+ * @param version   the entity's JPA {@code @Version} after the write (one past it for deletes),
+ *                  used to order and deduplicate changes; 0 for {@link Type#RELOADED}, which
+ *                  carries no data and is always applied
+ * @param payload   the saved DTO, or null for deletes
+ */
+public record PortfolioChangeEvent(PortfolioAggregate aggregate, Type type, Long id, long version, Object payload) {
+
+    public enum Type {
+        SAVED,
+        DELETED,
+        /**
+         * Many entities changed at once (bulk import): derived state of the aggregate is
+         * reloaded rather than patched.
+         */
+        RELOADED
+    }
+
+    public static PortfolioChangeEvent saved(PortfolioAggregate aggregate, Long id, long version, Object payload) {
+        return new PortfolioChangeEvent(aggregate, Type.SAVED, id, version, payload);
+    }
+
+    public static PortfolioChangeEvent deleted(PortfolioAggregate aggregate, Long id, long version) {
+        return new PortfolioChangeEvent(aggregate, Type.DELETED, id, version, null);
+    }
+
+    public static PortfolioChangeEvent reloaded(PortfolioAggregate aggregate) {
+        return new PortfolioChangeEvent(aggregate, Type.RELOADED, null, 0, null);
+    }
+
+    /**
+     * @return the identity of the changed entity, e.g. {@code PROJECTS:42}, or {@code PROJECTS:*}
+     */
+    public String key() {
+        return aggregate + ":" + (id != null ? id : "*");
+    }
+}
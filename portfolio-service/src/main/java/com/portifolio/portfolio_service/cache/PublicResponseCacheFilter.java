@@ -0,0 +1,194 @@
+package com.portifolio.portfolio_service.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * HTTP-level caching for public GET responses.
+ *
+ * <ul>
+ *     <li>Conditional GETs: every response carries a strong ETag made of the
+ *     {@link ContentVersions} tag of the aggregate behind the path and an MD5 digest of the
+ *     body, so bytes that changed without a local write (refresh-ahead, TTL reloads, other
+ *     nodes, direct database edits) get a new tag. {@code If-None-Match} is compared weakly,
+ *     as RFC 9110 requires; a match on cached bytes is answered with 304 before the
+ *     controller, the database or Jackson are touched, otherwise after rendering, which
+ *     still saves the transfer.</li>
+ *     <li>Response bytes: the serialized body is cached so repeated reads skip the
+ *     controller and Jackson entirely and are written straight to the socket.</li>
+ * </ul>
+ *
+ * <p>The content tag is read once, before the response is produced, and used for both the
+ * ETag and the cache key. A write that lands mid-request can therefore only leave bytes
+ * behind under an outdated tag, which is never requested again.</p>
+ */
+@Component
+public class PublicResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String CACHE_NAME = "publicResponses";
+    private static final int MIN_GZIP_SIZE = 1024;
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private final ContentVersions contentVersions;
+    private final Cache responseCache;
+
+    @Value("${portfolio.http.response-cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${portfolio.http.response-cache.gzip:true}")
+    private boolean gzipEnabled;
+
+    @Value("${portfolio.http.etag.enabled:true}")
+    private boolean etagEnabled;
+
+    @Value("${portfolio.http.cache-control.max-age:0s}")
+    private Duration maxAge;
+
+    public PublicResponseCacheFilter(ContentVersions contentVersions, CacheManager cacheManager) {
+        this.contentVersions = contentVersions;
+        this.responseCache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !(etagEnabled || (cacheEnabled && responseCache != null))
+                || !HttpMethod.GET.matches(request.getMethod())
+                || PortfolioAggregate.forPath(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        PortfolioAggregate aggregate = PortfolioAggregate.forPath(request.getRequestURI());
+        String contentTag = contentVersions.tag(aggregate);
+        boolean acceptsGzip = gzipEnabled && acceptsGzip(request);
+
+        String key = aggregate + ":" + contentTag + ":" + requestTarget(request);
+        boolean useCache = cacheEnabled && responseCache != null;
+        if (useCache) {
+            Cache.ValueWrapper cached = responseCache.get(key);
+            if (cached != null && cached.get() instanceof CachedResponse hit) {
+                respond(request, response, hit, contentTag, acceptsGzip);
+                return;
+            }
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        String contentType = wrapper.getContentType();
+        if (wrapper.getStatus() != HttpStatus.OK.value() || contentType == null || !contentType.contains("json")) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        CachedResponse entry = new CachedResponse(contentType, body, DigestUtils.md5DigestAsHex(body),
+                gzipEnabled && body.length >= MIN_GZIP_SIZE ? gzip(body) : null);
+        if (useCache) {
+            responseCache.put(key, entry);
+        }
+        respond(request, response, entry, contentTag, acceptsGzip);
+    }
+
+    private void respond(HttpServletRequest request, HttpServletResponse response, CachedResponse entry,
+                         String contentTag, boolean acceptsGzip) throws IOException {
+        boolean gzipped = acceptsGzip && entry.gzipBody() != null;
+        String entityTag = contentTag + "-" + entry.digest();
+
+        if (etagEnabled && isNotModified(request, entityTag)) {
+            writeValidators(response, entityTag, gzipped);
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        byte[] bytes = gzipped ? entry.gzipBody() : entry.body();
+        writeValidators(response, entityTag, gzipped);
+        if (gzipped) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(entry.contentType());
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    private void writeValidators(HttpServletResponse response, String entityTag, boolean gzipped) {
+        if (gzipEnabled) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (etagEnabled) {
+            // The gzip and identity encodings are different representations, so their strong ETags differ
+            response.setHeader(HttpHeaders.ETAG, "\"" + entityTag + (gzipped ? GZIP_ETAG_SUFFIX : "") + "\"");
+            response.setHeader(HttpHeaders.CACHE_CONTROL,
+                    CacheControl.maxAge(maxAge).cachePublic().mustRevalidate().getHeaderValue());
+        }
+    }
+
+    /**
+     * Weak comparison: a {@code W/} prefix is ignored, and so is the gzip suffix, because both
+     * encodings carry the same content and proxies commonly weaken ETags they re-encode.
+     */
+    private static boolean isNotModified(HttpServletRequest request, String entityTag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String etag = candidate.trim();
+            if (etag.equals("*")) {
+                return true;
+            }
+            if (etag.startsWith("W/")) {
+                etag = etag.substring(2);
+            }
+            if (etag.length() < 2 || etag.charAt(0) != '"' || etag.charAt(etag.length() - 1) != '"') {
+                continue;
+            }
+            String opaque = etag.substring(1, etag.length() - 1);
+            if (opaque.endsWith(GZIP_ETAG_SUFFIX)) {
+                opaque = opaque.substring(0, opaque.length() - GZIP_ETAG_SUFFIX.length());
+            }
+            if (opaque.equals(entityTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String requestTarget(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query;
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        }
+        return compressed.toByteArray();
+    }
+}
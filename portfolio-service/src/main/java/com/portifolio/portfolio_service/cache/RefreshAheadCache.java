@@ -0,0 +1,177 @@
+package com.portifolio.portfolio_service.cache;
+
+import com.portifolio.portfolio_service.config.ReadWriteRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache decorator that refreshes entries ahead of expiry (stale-while-revalidate).
+ *
+ * <ul>
+ *     <li>Younger than {@code refreshAfter}: served as is.</li>
+ *     <li>Older than {@code refreshAfter}: still served, while the caller's value loader
+ *     reloads the entry once on the refresh executor.</li>
+ *     <li>Older than {@code refreshAfter + staleGrace}: treated as a miss and loaded
+ *     synchronously. Until then a failing database only delays the refresh; readers
+ *     keep the last good value.</li>
+ * </ul>
+ *
+ * <p>Values are stored wrapped in an {@link Entry} that records when they were loaded;
+ * {@link #get(Object)} and {@link #put(Object, Object)} unwrap and wrap transparently, so
+ * direct writers such as {@link PortfolioCacheMaintainer} see plain values. The Ehcache
+ * expiry of a decorated cache must be at least {@code refreshAfter + staleGrace}.</p>
+ */
+@Slf4j
+public class RefreshAheadCache implements Cache {
+
+    private final Cache delegate;
+    private final TaskExecutor refreshExecutor;
+    private final long refreshAfterMillis;
+    private final long expireAfterMillis;
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final Timer refreshTimer;
+
+    public RefreshAheadCache(Cache delegate, TaskExecutor refreshExecutor, Duration refreshAfter, Duration staleGrace,
+                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshAfterMillis = refreshAfter.toMillis();
+        this.expireAfterMillis = refreshAfter.plus(staleGrace).toMillis();
+        this.refreshTimer = CacheMetrics.loadTimer(meterRegistry, delegate.getName(), "refresh");
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Entry entry = entry(key);
+        if (entry != null) {
+            long age = System.currentTimeMillis() - entry.loadedAt();
+            if (age < refreshAfterMillis) {
+                return (T) entry.value();
+            }
+            if (age < expireAfterMillis) {
+                refreshInBackground(key, entry, valueLoader);
+                return (T) entry.value();
+            }
+            delegate.evict(key);
+        }
+        // Loads through the delegate, so concurrent misses still share one load (SingleFlightCache)
+        return (T) delegate.get(key, () -> new Entry(valueLoader.call(), System.currentTimeMillis())).value();
+    }
+
+    private void refreshInBackground(Object key, Entry stale, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    // Read from the primary, like inline loads (SingleFlightCache)
+                    Entry refreshed = new Entry(
+                            refreshTimer.recordCallable(() -> ReadWriteRoutingDataSource.callOnPrimary(valueLoader)),
+                            System.currentTimeMillis());
+                    // Skip the write if the entry changed meanwhile (e.g. patched after an admin write)
+                    if (Objects.equals(entry(key), stale)) {
+                        delegate.put(key, refreshed);
+                    }
+                } catch (Exception ex) {
+                    log.warn("Refresh of cache '{}' key {} failed, serving the stale value: {}",
+                            getName(), key, ex.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (TaskRejectedException ex) {
+            refreshing.remove(key);
+            log.debug("Refresh executor saturated, skipping refresh of cache '{}' key {}", getName(), key);
+        }
+    }
+
+    private Entry entry(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        return wrapper != null && wrapper.get() instanceof Entry entry ? entry : null;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Entry entry = entry(key);
+        return entry == null || System.currentTimeMillis() - entry.loadedAt() >= expireAfterMillis
+                ? null
+                : new SimpleValueWrapper(entry.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, new Entry(value, System.currentTimeMillis()));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, new Entry(value, System.currentTimeMillis()));
+        return existing != null && existing.get() instanceof Entry entry ? new SimpleValueWrapper(entry.value()) : null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    /**
+     * A cached value and the time it was loaded or written.
+     */
+    public record Entry(Object value, long loadedAt) implements Serializable {
+    }
+}
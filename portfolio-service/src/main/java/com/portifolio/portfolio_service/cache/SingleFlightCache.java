@@ -0,0 +1,181 @@
+package com.portifolio.portfolio_service.cache;
+
+import com.portifolio.portfolio_service.config.ReadWriteRoutingDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache decorator with single-flight loading for {@code @Cacheable(sync = true)} methods.
+ * When a key misses, the first caller runs the loader and every concurrent caller for the
+ * same key waits on that caller's future instead of hitting the database as well.
+ * Different keys load independently; nothing is locked while a loader runs.
+ * Coalesced calls are counted in {@code cache.loads.coalesced} and loads are timed in
+ * {@code cache.load} (mode=inline), both tagged with the cache name.
+ * Loaders read from the primary: the loaded value is served to every caller until it
+ * changes, so it must not be a lagging replica's copy.
+ *
+ * <p>A {@code put}, {@code evict} or {@code clear} while a load is in flight supersedes it:
+ * the loader may have read the rows before the write committed, so its result is still
+ * returned to the waiting callers but not stored over the newer entry. Writers such as
+ * {@link PortfolioCacheMaintainer} patch entries after commit and rely on this.</p>
+ */
+public class SingleFlightCache implements Cache {
+
+    private final Cache delegate;
+    private final ConcurrentMap<Object, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedLoads;
+    private final Timer loadTimer;
+
+    public SingleFlightCache(Cache delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.coalescedLoads = Counter.builder("cache.loads.coalesced")
+                .description("Cache misses served by another caller's in-flight load")
+                .tag("cache", delegate.getName())
+                .register(meterRegistry);
+        this.loadTimer = CacheMetrics.loadTimer(meterRegistry, delegate.getName(), "inline");
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return (T) await(key, existing.result, valueLoader);
+        }
+
+        try {
+            // Another flight may have completed between the miss above and registering ours
+            ValueWrapper loaded = delegate.get(key);
+            Object value;
+            if (loaded != null) {
+                value = loaded.get();
+            } else {
+                value = loadTimer.recordCallable(() -> ReadWriteRoutingDataSource.callOnPrimary(valueLoader));
+                flight.store(delegate, key, value);
+            }
+            flight.result.complete(value);
+            return (T) value;
+        } catch (Throwable ex) {
+            flight.result.completeExceptionally(ex);
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static Object await(Object key, CompletableFuture<Object> flight, Callable<?> valueLoader) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    /**
+     * Marks the loads in flight for the key (all keys when null) as superseded. Callers then
+     * write the delegate; a loader either stored its value before the mark, and the write
+     * lands after it, or sees the mark and skips storing.
+     */
+    private void supersede(Object key) {
+        if (key == null) {
+            inFlight.values().forEach(Flight::supersede);
+            return;
+        }
+        Flight flight = inFlight.get(key);
+        if (flight != null) {
+            flight.supersede();
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        supersede(key);
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        supersede(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        supersede(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        supersede(null);
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        supersede(null);
+        return delegate.invalidate();
+    }
+
+    /**
+     * One in-flight load. The monitor is held only around an in-memory put, never the load.
+     */
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private boolean superseded;
+
+        synchronized void supersede() {
+            superseded = true;
+        }
+
+        synchronized void store(Cache cache, Object key, Object value) {
+            if (!superseded) {
+                cache.put(key, value);
+            }
+        }
+    }
+}
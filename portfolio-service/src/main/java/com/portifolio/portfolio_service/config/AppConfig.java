@@ -1,14 +1,36 @@
 package com.portifolio.portfolio_service.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class AppConfig {
 
+    @Value("${portfolio.http.client.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${portfolio.http.client.read-timeout:10s}")
+    private Duration readTimeout;
+
+    /**
+     * Outbound calls (Keycloak admin API, cache warm-up) go through the JDK {@link HttpClient}: a
+     * blocking send parks the calling thread without holding a monitor, so under virtual threads
+     * it releases its carrier, and the shared client pools connections. Both timeouts bound how
+     * long a request thread can be held by a slow Keycloak.
+     */
     @Bean
     public RestTemplate restTemplate() {
-        return new RestTemplate();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return new RestTemplate(requestFactory);
     }
 }
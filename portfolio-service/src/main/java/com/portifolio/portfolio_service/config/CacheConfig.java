@@ -1,11 +1,107 @@
 package com.portifolio.portfolio_service.config;
 
+import com.portifolio.portfolio_service.cache.CacheMetrics;
+import com.portifolio.portfolio_service.cache.RefreshAheadCache;
+import com.portifolio.portfolio_service.cache.SingleFlightCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.jcache.JCacheCache;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Cache provider setup: Ehcache 3 through JCache, with every named cache sized,
+ * tiered (heap + off-heap) and given an expiry policy in ehcache.xml.
+ * Every cache is wrapped in a {@link SingleFlightCache}, so concurrent misses on a
+ * {@code @Cacheable(sync = true)} method share a single load, and the service caches
+ * listed under portfolio.cache.refresh-ahead are additionally wrapped in a
+ * {@link RefreshAheadCache}.
+ *
+ * <p>The caching advice is ordered outside the transaction advice, so cache hits never open a
+ * transaction and loaders (including background refreshes) run in their own one.</p>
+ */
 @Configuration
-@EnableCaching
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
 public class CacheConfig {
-    // Spring Boot auto-configuration will set up a suitable cache provider
-    // based on the dependencies in the classpath
+
+    @Value("${portfolio.cache.refresh-ahead.enabled:true}")
+    private boolean refreshAheadEnabled;
+
+    @Value("${portfolio.cache.refresh-ahead.caches:}")
+    private Set<String> refreshAheadCaches;
+
+    @Value("${portfolio.cache.refresh-ahead.refresh-after:5m}")
+    private Duration refreshAfter;
+
+    @Value("${portfolio.cache.refresh-ahead.stale-grace:25m}")
+    private Duration staleGrace;
+
+    @Value("${portfolio.cache.refresh-ahead.pool-size:2}")
+    private int refreshPoolSize;
+
+    @Value("${portfolio.cache.refresh-ahead.queue-capacity:100}")
+    private int refreshQueueCapacity;
+
+    // Deliberately not a bean: an Executor bean would replace Boot's applicationTaskExecutor
+    private final ThreadPoolTaskExecutor refreshExecutor = new ThreadPoolTaskExecutor();
+
+    @Bean(destroyMethod = "close")
+    public javax.cache.CacheManager jCacheManager(
+            @Value("${portfolio.cache.config:classpath:ehcache.xml}") Resource config) throws IOException {
+        CachingProvider cachingProvider = Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        return cachingProvider.getCacheManager(config.getURI(), getClass().getClassLoader());
+    }
+
+    @Bean
+    public CacheManager cacheManager(javax.cache.CacheManager jCacheManager, MeterRegistry meterRegistry) {
+        refreshExecutor.setCorePoolSize(refreshPoolSize);
+        refreshExecutor.setMaxPoolSize(refreshPoolSize);
+        refreshExecutor.setQueueCapacity(refreshQueueCapacity);
+        refreshExecutor.setThreadNamePrefix("cache-refresh-");
+        refreshExecutor.initialize();
+
+        return new JCacheCacheManager(jCacheManager) {
+            @Override
+            protected Cache decorateCache(Cache cache) {
+                Cache singleFlight = new SingleFlightCache(super.decorateCache(cache), meterRegistry);
+                return refreshAheadEnabled && refreshAheadCaches.contains(cache.getName())
+                        ? new RefreshAheadCache(singleFlight, refreshExecutor, refreshAfter, staleGrace, meterRegistry)
+                        : singleFlight;
+            }
+        };
+    }
+
+    /**
+     * Boot only binds metrics for caches it recognizes, so the decorated caches are unwrapped
+     * to their JCache cache here. Every named cache then reports cache.gets (hit/miss),
+     * cache.puts, cache.evictions and cache.removals from the JCache statistics.
+     */
+    @Bean
+    public CacheMeterBinderProvider<Cache> decoratedJCacheMeterBinderProvider() {
+        return (cache, tags) -> CacheMetrics.unwrap(cache) instanceof JCacheCache jCacheCache
+                ? new JCacheMetrics<>(jCacheCache.getNativeCache(), tags)
+                : null;
+    }
+
+    @PreDestroy
+    public void shutdownRefreshExecutor() {
+        refreshExecutor.shutdown();
+    }
 }
@@ -0,0 +1,99 @@
+package com.portifolio.portfolio_service.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portifolio.portfolio_service.cache.CacheSyncListener;
+import com.portifolio.portfolio_service.cache.CacheSyncPublisher;
+import com.portifolio.portfolio_service.cache.PortfolioCacheMaintainer;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cross-replica cache sync over Kafka (portfolio.cache.sync.enabled).
+ *
+ * <p>Uses its own String producer and consumer on top of the shared spring.kafka connection
+ * settings, so the JSON (de)serializers configured there for other topics do not apply.
+ * The factories are not exposed as beans to leave Boot's Kafka auto-configuration in place.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "portfolio.cache.sync", name = "enabled", havingValue = "true")
+public class CacheSyncConfig {
+
+    @Value("${portfolio.cache.sync.topic:portfolio-cache-sync}")
+    private String topic;
+
+    @Value("${portfolio.cache.sync.partitions:3}")
+    private int partitions;
+
+    @Value("${portfolio.cache.sync.linger-ms:20}")
+    private int lingerMs;
+
+    @Value("${portfolio.cache.sync.max-block-ms:500}")
+    private int maxBlockMs;
+
+    private final String origin = UUID.randomUUID().toString();
+
+    private DefaultKafkaProducerFactory<String, String> producerFactory;
+
+    @Bean
+    public NewTopic cacheSyncTopic() {
+        return TopicBuilder.name(topic).partitions(partitions).build();
+    }
+
+    @Bean
+    public CacheSyncPublisher cacheSyncPublisher(KafkaProperties kafkaProperties, ObjectMapper objectMapper) {
+        Map<String, Object> props = kafkaProperties.buildProducerProperties(null);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        // Batch events written close together; never hold an admin request for long on a missing broker
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        producerFactory = new DefaultKafkaProducerFactory<>(props);
+        return new CacheSyncPublisher(new KafkaTemplate<>(producerFactory), objectMapper, topic, origin);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> cacheSyncListenerContainerFactory(
+            KafkaProperties kafkaProperties) {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        // A fresh group per instance: older changes are already reflected in what it loads from the database
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+    @Bean
+    public CacheSyncListener cacheSyncListener(PortfolioCacheMaintainer cacheMaintainer, ObjectMapper objectMapper,
+                                               CacheSyncPublisher cacheSyncPublisher) {
+        return new CacheSyncListener(cacheMaintainer, objectMapper, cacheSyncPublisher);
+    }
+
+    @PreDestroy
+    public void closeProducer() {
+        if (producerFactory != null) {
+            producerFactory.destroy();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.portifolio.portfolio_service.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else (writes, and work
+ * outside a transaction) to the primary. Threads pinned with {@link #pinToPrimary} read from
+ * the primary as well, so a client that just wrote sees its own changes despite replica lag.
+ * Loads that fill shared, long-lived state (cache misses and refreshes, index and read model
+ * rebuilds) run {@link #onPrimary} for the same reason: a replica read there would be served
+ * to every client until the next change.
+ *
+ * <p>Must be wrapped in a {@code LazyConnectionDataSourceProxy}: the read-only flag of a
+ * transaction is only known after the transaction manager has begun it, so the physical
+ * connection has to be fetched on first use rather than at transaction begin.</p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public static void pinToPrimary(boolean pinned) {
+        if (pinned) {
+            PINNED.set(Boolean.TRUE);
+        } else {
+            PINNED.remove();
+        }
+    }
+
+    /**
+     * @return whether the current thread is pinned to the primary, so work handed to another
+     * thread can carry the pin along
+     */
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * Runs the work pinned to the primary, then restores the caller's pin.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        boolean pinned = isPinnedToPrimary();
+        pinToPrimary(true);
+        try {
+            return work.get();
+        } finally {
+            pinToPrimary(pinned);
+        }
+    }
+
+    /**
+     * {@link #onPrimary(Supplier)} for loaders that throw checked exceptions, such as cache value loaders.
+     */
+    public static <T> T callOnPrimary(Callable<T> work) throws Exception {
+        boolean pinned = isPinnedToPrimary();
+        pinToPrimary(true);
+        try {
+            return work.call();
+        } finally {
+            pinToPrimary(pinned);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    static Route currentRoute() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly && PINNED.get() == null ? Route.REPLICA : Route.PRIMARY;
+    }
+}
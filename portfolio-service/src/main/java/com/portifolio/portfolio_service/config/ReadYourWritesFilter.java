@@ -0,0 +1,75 @@
+package com.portifolio.portfolio_service.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-your-writes for the replica routing: after an authenticated user's successful write,
+ * that user's requests are pinned to the primary for {@code window} (the replica lag the
+ * deployment tolerates). Write requests themselves are pinned too, so reloads done after their
+ * commit (e.g. of the read model after a bulk import) see the new data. Anonymous reads are
+ * never pinned. Registered after the Spring
+ * Security filter chain, so the authentication is known.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final long windowMillis;
+    // user name -> time of the last successful write
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesFilter(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String user = currentUser();
+        long now = System.currentTimeMillis();
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        boolean pinned = write || user != null && isRecentWriter(user, now);
+        ReadWriteRoutingDataSource.pinToPrimary(pinned);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadWriteRoutingDataSource.pinToPrimary(false);
+            if (user != null && write && response.getStatus() < 400) {
+                lastWrites.put(user, System.currentTimeMillis());
+            }
+        }
+    }
+
+    private boolean isRecentWriter(String user, long now) {
+        Long lastWrite = lastWrites.get(user);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (now - lastWrite < windowMillis) {
+            return true;
+        }
+        lastWrites.remove(user, lastWrite);
+        return false;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken
+                ? null
+                : authentication.getName();
+    }
+}
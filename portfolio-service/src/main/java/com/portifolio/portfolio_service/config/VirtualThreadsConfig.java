@@ -0,0 +1,26 @@
+package com.portifolio.portfolio_service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Fails startup when {@code spring.threads.virtual.enabled} is set on a runtime older than
+ * Java 21. Boot only honours the flag on 21+, so on 17 the {@code virtual-threads} profile would
+ * otherwise start quietly on the platform Tomcat pool and any comparison against it would
+ * measure the same thing twice.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    static final int MIN_JAVA_VERSION = 21;
+
+    public VirtualThreadsConfig() {
+        int feature = Runtime.version().feature();
+        if (feature < MIN_JAVA_VERSION) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true needs Java " + MIN_JAVA_VERSION
+                    + " or later, but this runtime is Java " + feature
+                    + "; unset it (or drop the virtual-threads profile) to run on platform threads");
+        }
+    }
+}
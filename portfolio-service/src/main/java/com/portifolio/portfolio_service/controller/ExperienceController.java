@@ -1,6 +1,8 @@
 package com.portifolio.portfolio_service.controller;
 
+import com.portifolio.portfolio_service.dto.CursorPage;
 import com.portifolio.portfolio_service.dto.ExperienceDto;
+import com.portifolio.portfolio_service.dto.PageCursor;
 import com.portifolio.portfolio_service.service.ExperienceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -22,6 +24,13 @@ public class ExperienceController {
         return ResponseEntity.ok(experienceService.getAllExperiences());
     }
 
+    @GetMapping("/public/experiences/page")
+    public ResponseEntity<CursorPage<ExperienceDto>> getExperiencePage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(experienceService.getExperiencePage(cursor, PageCursor.clampLimit(limit)));
+    }
+
     @GetMapping("/public/experiences/current")
     public ResponseEntity<List<ExperienceDto>> getCurrentExperiences() {
         return ResponseEntity.ok(experienceService.getCurrentExperiences());
@@ -0,0 +1,72 @@
+package com.portifolio.portfolio_service.controller;
+
+import com.portifolio.portfolio_service.cache.PortfolioAggregate;
+import com.portifolio.portfolio_service.service.PortfolioExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * NDJSON export for backups, search indexing and analytics jobs. The response is written while
+ * the rows are read (see {@link PortfolioExportService}); with {@code gzip=true} it is a
+ * gzip file instead.
+ *
+ * <p>Once streaming has started the status can no longer change, so a failure midway shows
+ * up as a truncated body.</p>
+ */
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final PortfolioExportService exportService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportAll(@RequestParam(defaultValue = "false") boolean gzip, HttpServletResponse response)
+            throws IOException {
+        export(List.of(PortfolioAggregate.PROJECTS, PortfolioAggregate.SKILLS, PortfolioAggregate.EXPERIENCES),
+                "portfolio", gzip, response);
+    }
+
+    @GetMapping("/{type:projects|skills|experiences}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportType(@PathVariable String type, @RequestParam(defaultValue = "false") boolean gzip,
+                           HttpServletResponse response) throws IOException {
+        export(List.of(PortfolioAggregate.valueOf(type.toUpperCase(Locale.ROOT))), type, gzip, response);
+    }
+
+    private void export(Collection<PortfolioAggregate> aggregates, String name, boolean gzip,
+                        HttpServletResponse response) throws IOException {
+        response.setContentType(gzip ? "application/gzip" : NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(name + (gzip ? ".ndjson.gz" : ".ndjson"))
+                .build()
+                .toString());
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            try (GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024)) {
+                exportService.export(aggregates, compressed);
+            }
+        } else {
+            exportService.export(aggregates, out);
+        }
+    }
+}
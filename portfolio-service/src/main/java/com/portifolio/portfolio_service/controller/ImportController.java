@@ -0,0 +1,47 @@
+package com.portifolio.portfolio_service.controller;
+
+import com.portifolio.portfolio_service.cache.PortfolioAggregate;
+import com.portifolio.portfolio_service.dto.ImportResultDto;
+import com.portifolio.portfolio_service.exception.InvalidImportException;
+import com.portifolio.portfolio_service.service.BulkImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * Bulk import of projects, skills or experiences. The body is either a JSON array or
+ * newline-delimited JSON (one object per line) and is streamed, never buffered whole.
+ */
+@RestController
+@RequestMapping("/api/admin/import")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private final BulkImportService bulkImportService;
+
+    @PostMapping(value = "/{type}", consumes = {"application/x-ndjson", MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportResultDto> importData(@PathVariable String type, InputStream body) throws IOException {
+        try (body) {
+            return ResponseEntity.ok(bulkImportService.importStream(aggregate(type), body));
+        }
+    }
+
+    private static PortfolioAggregate aggregate(String type) {
+        return switch (type.toLowerCase(Locale.ROOT)) {
+            case "projects" -> PortfolioAggregate.PROJECTS;
+            case "skills" -> PortfolioAggregate.SKILLS;
+            case "experiences" -> PortfolioAggregate.EXPERIENCES;
+            default -> throw new InvalidImportException("Unknown import type: " + type);
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.portifolio.portfolio_service.controller;
+
+import com.portifolio.portfolio_service.dto.PortfolioPageDto;
+import com.portifolio.portfolio_service.service.PortfolioPageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class PortfolioPageController {
+
+    private final PortfolioPageService portfolioPageService;
+
+    @GetMapping("/public/portfolio/{username}")
+    public ResponseEntity<PortfolioPageDto> getPortfolioPage(@PathVariable String username) {
+        return ResponseEntity.ok(portfolioPageService.getPortfolioPage(username));
+    }
+}
@@ -1,7 +1,11 @@
 package com.portifolio.portfolio_service.controller;
 
+import com.portifolio.portfolio_service.dto.CursorPage;
+import com.portifolio.portfolio_service.dto.PageCursor;
 import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.ProjectSearchResultDto;
 import com.portifolio.portfolio_service.service.ProjectService;
+import com.portifolio.portfolio_service.service.ProjectTagIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +26,24 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.getAllProjects());
     }
 
+    @GetMapping("/public/projects/page")
+    public ResponseEntity<CursorPage<ProjectDto>> getProjectPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(projectService.getProjectPage(cursor, PageCursor.clampLimit(limit)));
+    }
+
+    @GetMapping("/public/projects/search")
+    public ResponseEntity<ProjectSearchResultDto> searchProjects(
+            @RequestParam(name = "category", required = false) List<String> categories,
+            @RequestParam(name = "technology", required = false) List<String> technologies,
+            @RequestParam(defaultValue = "ALL") ProjectTagIndex.Match match) {
+        return ResponseEntity.ok(projectService.searchProjects(
+                categories == null ? List.of() : categories,
+                technologies == null ? List.of() : technologies,
+                match));
+    }
+
     @GetMapping("/public/projects/featured")
     public ResponseEntity<List<ProjectDto>> getFeaturedProjects() {
         return ResponseEntity.ok(projectService.getFeaturedProjects());
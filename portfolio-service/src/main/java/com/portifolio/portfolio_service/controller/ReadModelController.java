@@ -0,0 +1,52 @@
+package com.portifolio.portfolio_service.controller;
+
+import com.portifolio.portfolio_service.service.PortfolioReadModel;
+import com.portifolio.portfolio_service.service.PortfolioSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ReadModelController {
+
+    private final PortfolioReadModel readModel;
+
+    @PostMapping("/admin/read-model/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildReadModel() {
+        if (!readModel.isEnabled()) {
+            return disabled();
+        }
+        PortfolioSnapshot snapshot = readModel.rebuild();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("builtAt", snapshot.getBuiltAt());
+        response.put("projects", snapshot.projects().size());
+        response.put("skills", snapshot.skills().size());
+        response.put("experiences", snapshot.experiences().size());
+        response.put("profiles", snapshot.profiles().size());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/admin/read-model/check")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> checkReadModel() {
+        if (!readModel.isEnabled()) {
+            return disabled();
+        }
+        return ResponseEntity.ok(readModel.check());
+    }
+
+    private static ResponseEntity<Map<String, Object>> disabled() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "Read model is disabled (portfolio.read-model.enabled=false)");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+}
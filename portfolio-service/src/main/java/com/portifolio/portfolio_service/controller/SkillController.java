@@ -1,5 +1,7 @@
 package com.portifolio.portfolio_service.controller;
 
+import com.portifolio.portfolio_service.dto.CursorPage;
+import com.portifolio.portfolio_service.dto.PageCursor;
 import com.portifolio.portfolio_service.dto.SkillDto;
 import com.portifolio.portfolio_service.service.SkillService;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,13 @@ public class SkillController {
         return ResponseEntity.ok(skillService.getAllSkills());
     }
 
+    @GetMapping("/public/skills/page")
+    public ResponseEntity<CursorPage<SkillDto>> getSkillPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(skillService.getSkillPage(cursor, PageCursor.clampLimit(limit)));
+    }
+
     @GetMapping("/public/skills/category/{category}")
     public ResponseEntity<List<SkillDto>> getSkillsByCategory(@PathVariable String category) {
         return ResponseEntity.ok(skillService.getSkillsByCategory(category));
@@ -0,0 +1,28 @@
+package com.portifolio.portfolio_service.controller;
+
+import com.portifolio.portfolio_service.dto.TagSuggestionDto;
+import com.portifolio.portfolio_service.service.TagSuggester;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class SuggestionController {
+
+    private final TagSuggester tagSuggester;
+
+    @GetMapping("/public/suggest")
+    public ResponseEntity<List<TagSuggestionDto>> suggest(
+            @RequestParam(name = "q", defaultValue = "") String prefix,
+            @RequestParam(required = false) TagSuggester.Kind type,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(tagSuggester.suggest(prefix, type, limit));
+    }
+}
@@ -1,6 +1,7 @@
 package com.portifolio.portfolio_service.controller;
 
 import com.portifolio.portfolio_service.dto.UserProfileDto;
+import com.portifolio.portfolio_service.exception.ProfileNotFoundException;
 import com.portifolio.portfolio_service.service.UserProfileService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -17,6 +18,9 @@ public class UserProfileController {
 
     @GetMapping("/public/profiles/{username}")
     public ResponseEntity<UserProfileDto> getPublicUserProfile(@PathVariable String username) {
+        if (userProfileService.isKnownMissing(username)) {
+            throw new ProfileNotFoundException(username);
+        }
         return ResponseEntity.ok(userProfileService.getUserProfileByUsername(username));
     }
 
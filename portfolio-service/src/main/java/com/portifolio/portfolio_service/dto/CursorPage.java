@@ -0,0 +1,24 @@
+package com.portifolio.portfolio_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list. {@code nextCursor} is an opaque token to pass
+ * back as the {@code cursor} parameter, or null when this is the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<T> items = new ArrayList<>();
+    private String nextCursor;
+}
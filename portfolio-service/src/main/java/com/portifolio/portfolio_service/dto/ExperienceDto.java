@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -13,7 +14,10 @@ import java.util.Set;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ExperienceDto {
+public class ExperienceDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     private Long id;
     private String company;
     private String position;
@@ -25,4 +29,10 @@ public class ExperienceDto {
     private String companyLogoUrl;
     private Set<String> responsibilities = new HashSet<>();
     private Set<String> technologies = new HashSet<>();
+
+    // Copies deserialized from the cache tiers share the pooled tag strings again
+    private Object readResolve() {
+        technologies = TagNames.intern(technologies);
+        return this;
+    }
 }
@@ -0,0 +1,20 @@
+package com.portifolio.portfolio_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a bulk import: rows written, persistence-context flushes and elapsed time.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDto {
+    private String type;
+    private long imported;
+    private int chunks;
+    private long elapsedMillis;
+}
@@ -0,0 +1,50 @@
+package com.portifolio.portfolio_service.dto;
+
+import com.portifolio.portfolio_service.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a page: the sort key of that row (may be null) and its id
+ * as tie-breaker. Clients only ever see the encoded, URL-safe form.
+ */
+public record PageCursor(LocalDateTime key, Long id) {
+
+    public static final int MAX_LIMIT = 100;
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = (key == null ? "" : key.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or null for a missing cursor (first page)
+     * @throws InvalidCursorException if the token was not produced by {@link #encode()}
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed page cursor: " + token);
+            }
+            String key = raw.substring(0, separator);
+            return new PageCursor(key.isEmpty() ? null : LocalDateTime.parse(key),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed page cursor: " + token, e);
+        }
+    }
+
+    public static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
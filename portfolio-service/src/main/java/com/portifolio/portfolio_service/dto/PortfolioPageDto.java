@@ -0,0 +1,26 @@
+package com.portifolio.portfolio_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Everything a public portfolio page shows, in one response. A part that failed or did not
+ * answer in time is null and listed in {@code degradedParts}; the rest is still returned.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioPageDto {
+    private UserProfileDto profile;
+    private List<ProjectDto> projects;
+    private List<ProjectDto> featuredProjects;
+    private List<SkillDto> skills;
+    private List<ExperienceDto> experiences;
+    private List<String> degradedParts;
+    private boolean degraded;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -13,7 +14,10 @@ import java.util.Set;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ProjectDto {
+public class ProjectDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     private Long id;
     private String title;
     private String description;
@@ -28,4 +32,11 @@ public class ProjectDto {
     private Set<String> categories = new HashSet<>();
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // Copies deserialized from the cache tiers share the pooled tag strings again
+    private Object readResolve() {
+        technologies = TagNames.intern(technologies);
+        categories = TagNames.intern(categories);
+        return this;
+    }
 }
@@ -0,0 +1,29 @@
+package com.portifolio.portfolio_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projects matching a category/technology filter, with per-tag counts over the matches
+ * (most frequent first).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSearchResultDto {
+    private int total;
+    @Builder.Default
+    private List<ProjectDto> items = new ArrayList<>();
+    @Builder.Default
+    private Map<String, Integer> categoryFacets = new LinkedHashMap<>();
+    @Builder.Default
+    private Map<String, Integer> technologyFacets = new LinkedHashMap<>();
+}
@@ -0,0 +1,43 @@
+package com.portifolio.portfolio_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of comparing the in-memory read model with the database, per aggregate.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadModelCheckDto {
+    private boolean consistent;
+    private LocalDateTime snapshotBuiltAt;
+    private LocalDateTime checkedAt;
+    private Map<String, AggregateDiff> aggregates;
+
+    /**
+     * Keys (ids, or usernames for profiles) that differ between the snapshot and the database.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AggregateDiff {
+        private int snapshotCount;
+        private int databaseCount;
+        @Builder.Default
+        private List<String> missing = new ArrayList<>();
+        @Builder.Default
+        private List<String> extra = new ArrayList<>();
+        @Builder.Default
+        private List<String> stale = new ArrayList<>();
+    }
+}
@@ -5,15 +5,23 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class SkillDto {
+public class SkillDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     private Long id;
     private String name;
     private String category;
     private Integer proficiencyLevel;
     private String iconUrl;
     private Integer yearsOfExperience;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 }
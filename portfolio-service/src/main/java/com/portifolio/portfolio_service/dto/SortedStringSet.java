@@ -0,0 +1,87 @@
+package com.portifolio.portfolio_service.dto;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable set of strings stored as one sorted array, used for the tag and responsibility
+ * collections of cached DTOs. Compared with a {@code TreeSet} or {@code HashSet} copy it has no
+ * per-element node objects, iterates in a stable sorted order and can be shared between
+ * threads and caches without defensive copies. Lookups are binary searches.
+ */
+public final class SortedStringSet extends AbstractSet<String> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SortedStringSet EMPTY = new SortedStringSet(new String[0]);
+
+    private final String[] elements;
+
+    private SortedStringSet(String[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * @return a sorted, duplicate-free immutable copy of the given strings; nulls are dropped
+     */
+    public static SortedStringSet of(Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return EMPTY;
+        }
+        if (values instanceof SortedStringSet set) {
+            return set;
+        }
+        String[] sorted = values.stream().filter(Objects::nonNull).sorted().toArray(String[]::new);
+        int size = 0;
+        for (String value : sorted) {
+            if (size == 0 || !sorted[size - 1].equals(value)) {
+                sorted[size++] = value;
+            }
+        }
+        return size == 0 ? EMPTY : new SortedStringSet(size == sorted.length ? sorted : Arrays.copyOf(sorted, size));
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof String value && Arrays.binarySearch(elements, value) >= 0;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            public String next() {
+                if (next >= elements.length) {
+                    throw new NoSuchElementException();
+                }
+                return elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    private Object readResolve() {
+        return elements.length == 0 ? EMPTY : this;
+    }
+}
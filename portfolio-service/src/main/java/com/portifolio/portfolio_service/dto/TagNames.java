@@ -0,0 +1,49 @@
+package com.portifolio.portfolio_service.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process-wide pool of tag strings (technologies and categories), so every entity and cached
+ * DTO refers to one {@link String} instance per tag instead of its own copy. The pool only
+ * grows with the tag dictionary, which is small and written by admins only.
+ */
+public final class TagNames {
+
+    private static final ConcurrentMap<String, String> POOL = new ConcurrentHashMap<>();
+
+    private TagNames() {
+    }
+
+    public static String intern(String name) {
+        if (name == null) {
+            return null;
+        }
+        String existing = POOL.putIfAbsent(name, name);
+        return existing != null ? existing : name;
+    }
+
+    /**
+     * Sorted immutable copy of the given tags with every name taken from the pool.
+     */
+    public static Set<String> intern(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return SortedStringSet.of(null);
+        }
+        List<String> interned = new ArrayList<>(names.size());
+        for (String name : names) {
+            if (name != null) {
+                interned.add(intern(name));
+            }
+        }
+        return SortedStringSet.of(interned);
+    }
+
+    public static int size() {
+        return POOL.size();
+    }
+}
@@ -0,0 +1,19 @@
+package com.portifolio.portfolio_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A typeahead suggestion: the tag, its kind and how many entities use it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagSuggestionDto {
+    private String value;
+    private String type;
+    private int count;
+}
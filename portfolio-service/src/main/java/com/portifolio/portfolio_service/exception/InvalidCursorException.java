@@ -0,0 +1,26 @@
+package com.portifolio.portfolio_service.exception;
+
+/**
+ * Exception thrown when a pagination cursor sent by a client cannot be decoded.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidCursorException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new InvalidCursorException with the specified detail message and cause.
+     *
+     * @param message the detail message
+     * @param cause the cause
+     */
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
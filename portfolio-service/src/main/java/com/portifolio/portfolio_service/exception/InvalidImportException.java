@@ -0,0 +1,26 @@
+package com.portifolio.portfolio_service.exception;
+
+/**
+ * Exception thrown when a bulk import payload cannot be parsed or names an unknown type.
+ */
+public class InvalidImportException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidImportException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public InvalidImportException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new InvalidImportException with the specified detail message and cause.
+     *
+     * @param message the detail message
+     * @param cause the cause
+     */
+    public InvalidImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,24 @@
+package com.portifolio.portfolio_service.exception;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Exception thrown when no public profile exists for a username.
+ * Username probes are frequent and expected, so no stack trace is captured.
+ */
+public class ProfileNotFoundException extends EntityNotFoundException {
+
+    /**
+     * Constructs a new ProfileNotFoundException for the given username.
+     *
+     * @param username the username that was looked up
+     */
+    public ProfileNotFoundException(String username) {
+        super("User profile not found with username: " + username);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
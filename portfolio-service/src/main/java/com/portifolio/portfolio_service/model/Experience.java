@@ -5,16 +5,25 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 
 import jakarta.persistence.NamedAttributeNode;
 import jakarta.persistence.NamedEntityGraph;
 
 @Entity
-@Table(name = "experiences")
+@Table(name = "experiences", indexes = @Index(name = "idx_experiences_start_date_id", columnList = "startDate DESC, id DESC"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @Builder
 @NoArgsConstructor
@@ -29,9 +38,15 @@ import jakarta.persistence.NamedEntityGraph;
 public class Experience {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence so inserts can be JDBC-batched (IDENTITY forces one round trip per row)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "experiences_seq")
+    @SequenceGenerator(name = "experiences_seq", sequenceName = "experiences_id_seq", allocationSize = 50)
     private Long id;
 
+    // Optimistic lock counter; also orders this entity's cache sync events across replicas
+    @Version
+    private long version;
+
     @Column(nullable = false)
     private String company;
 
@@ -53,14 +68,28 @@ public class Experience {
     private String companyLogoUrl;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "experience_responsibilities", joinColumns = @JoinColumn(name = "experience_id"))
     @Column(name = "responsibility", length = 1000)
     private Set<String> responsibilities = new HashSet<>();
 
-    @ElementCollection
-    @CollectionTable(name = "experience_technologies", joinColumns = @JoinColumn(name = "experience_id"))
-    @Column(name = "technology")
-    private Set<String> technologies = new HashSet<>();
+    @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @Fetch(FetchMode.SUBSELECT)
+    @JoinTable(name = "experience_technology_tags",
+            joinColumns = @JoinColumn(name = "experience_id"),
+            inverseJoinColumns = @JoinColumn(name = "tag_id"))
+    private Set<Tag> technologies = new HashSet<>();
+
+    // Denormalized copies for CollectionFetchStrategy.ARRAY, kept in step by syncArrays()
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "technology_names", columnDefinition = "text[]")
+    private String[] technologyNames;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "responsibility_texts", columnDefinition = "text[]")
+    private String[] responsibilityTexts;
 
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -71,10 +100,23 @@ public class Experience {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        syncArrays();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * Copies technologies and responsibilities into the array columns. Called on persist;
+     * updates that change the collections must call it too, since a collection-only change
+     * does not trigger {@code @PreUpdate}.
+     */
+    public void syncArrays() {
+        technologyNames = Tag.names(technologies);
+        responsibilityTexts = responsibilities == null
+                ? new String[0]
+                : responsibilities.stream().filter(Objects::nonNull).sorted().toArray(String[]::new);
+    }
 }
@@ -5,6 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,7 +20,9 @@ import jakarta.persistence.NamedAttributeNode;
 import jakarta.persistence.NamedEntityGraph;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = @Index(name = "idx_projects_updated_at_id", columnList = "updatedAt DESC, id DESC"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @Builder
 @NoArgsConstructor
@@ -29,9 +37,15 @@ import jakarta.persistence.NamedEntityGraph;
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence so inserts can be JDBC-batched (IDENTITY forces one round trip per row)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_id_seq", allocationSize = 50)
     private Long id;
 
+    // Optimistic lock counter; also orders this entity's cache sync events across replicas
+    @Version
+    private long version;
+
     @Column(nullable = false)
     private String title;
 
@@ -54,15 +68,30 @@ public class Project {
 
     private boolean featured;
 
-    @ElementCollection
-    @CollectionTable(name = "project_technologies", joinColumns = @JoinColumn(name = "project_id"))
-    @Column(name = "technology")
-    private Set<String> technologies = new HashSet<>();
-
-    @ElementCollection
-    @CollectionTable(name = "project_categories", joinColumns = @JoinColumn(name = "project_id"))
-    @Column(name = "category")
-    private Set<String> categories = new HashSet<>();
+    @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @Fetch(FetchMode.SUBSELECT)
+    @JoinTable(name = "project_technology_tags",
+            joinColumns = @JoinColumn(name = "project_id"),
+            inverseJoinColumns = @JoinColumn(name = "tag_id"))
+    private Set<Tag> technologies = new HashSet<>();
+
+    @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @Fetch(FetchMode.SUBSELECT)
+    @JoinTable(name = "project_category_tags",
+            joinColumns = @JoinColumn(name = "project_id"),
+            inverseJoinColumns = @JoinColumn(name = "tag_id"))
+    private Set<Tag> categories = new HashSet<>();
+
+    // Denormalized tag names for CollectionFetchStrategy.ARRAY, kept in step by syncTagArrays()
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "technology_names", columnDefinition = "text[]")
+    private String[] technologyNames;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "category_names", columnDefinition = "text[]")
+    private String[] categoryNames;
 
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -73,10 +102,20 @@ public class Project {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        syncTagArrays();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * Copies the tag names into the array columns. Called on persist; updates that change the
+     * tag sets must call it too, since a collection-only change does not trigger {@code @PreUpdate}.
+     */
+    public void syncTagArrays() {
+        technologyNames = Tag.names(technologies);
+        categoryNames = Tag.names(categories);
+    }
 }
@@ -5,11 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "skills")
+@Table(name = "skills", indexes = @Index(name = "idx_skills_updated_at_id", columnList = "updatedAt DESC, id DESC"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,9 +21,15 @@ import java.time.LocalDateTime;
 public class Skill {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence so inserts can be JDBC-batched (IDENTITY forces one round trip per row)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skills_seq")
+    @SequenceGenerator(name = "skills_seq", sequenceName = "skills_id_seq", allocationSize = 50)
     private Long id;
 
+    // Optimistic lock counter; also orders this entity's cache sync events across replicas
+    @Version
+    private long version;
+
     @Column(nullable = false)
     private String name;
 
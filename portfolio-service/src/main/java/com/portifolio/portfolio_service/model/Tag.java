@@ -0,0 +1,57 @@
+package com.portifolio.portfolio_service.model;
+
+import com.portifolio.portfolio_service.dto.TagNames;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+
+import java.util.Collection;
+
+/**
+ * Entry of the tag dictionary shared by project technologies and categories and experience
+ * technologies: each distinct string is stored once and referenced by its integer id from
+ * the join tables. Equality is by name, so tags behave like the strings they replace in sets.
+ */
+@Entity
+@Table(name = "tags")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class Tag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @NaturalId
+    @EqualsAndHashCode.Include
+    @Column(nullable = false, unique = true)
+    private String name;
+
+    /**
+     * @return the sorted names of the given tags, for the denormalized {@code text[]} columns
+     */
+    public static String[] names(Collection<Tag> tags) {
+        return tags == null ? new String[0] : tags.stream().map(Tag::getName).sorted().toArray(String[]::new);
+    }
+
+    @PostLoad
+    @PrePersist
+    protected void internName() {
+        name = TagNames.intern(name);
+    }
+}
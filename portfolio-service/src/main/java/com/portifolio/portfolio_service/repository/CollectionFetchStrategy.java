@@ -0,0 +1,34 @@
+package com.portifolio.portfolio_service.repository;
+
+/**
+ * How the tag/responsibility collections are loaded for list queries.
+ * Selected with {@code portfolio.persistence.collection-fetch}.
+ */
+public enum CollectionFetchStrategy {
+
+    /**
+     * One query that LEFT JOIN FETCHes both collections and de-duplicates the
+     * roots in memory; the result set grows with the product of the collection sizes.
+     */
+    JOIN,
+
+    /**
+     * Root rows are fetched once, then each collection is loaded for all of them with
+     * a single subselect query (see {@code @Fetch(FetchMode.SUBSELECT)} on the entities).
+     */
+    SUBSELECT,
+
+    /**
+     * Root rows only: tag names and responsibilities are read from the denormalized
+     * {@code text[]} columns on the same row (GIN-indexed, see db/tag-arrays-migration.sql),
+     * so list reads touch a single table. Rows written before the backfill fall back to the
+     * collections.
+     */
+    ARRAY,
+
+    /**
+     * No entities: rows are mapped straight to DTOs over JDBC, with the collections aggregated
+     * by {@code ARRAY(...)} subqueries in the same statement (see {@link DtoProjectionRepository}).
+     */
+    PROJECTION
+}
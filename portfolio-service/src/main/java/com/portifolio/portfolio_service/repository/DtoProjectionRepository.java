@@ -0,0 +1,191 @@
+package com.portifolio.portfolio_service.repository;
+
+import com.portifolio.portfolio_service.dto.ExperienceDto;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.SkillDto;
+import com.portifolio.portfolio_service.dto.SortedStringSet;
+import com.portifolio.portfolio_service.dto.TagNames;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Read-only queries that map rows straight to DTOs for
+ * {@link CollectionFetchStrategy#PROJECTION}: no entities are hydrated, nothing enters the
+ * persistence context and there are no dirty-checking snapshots. Tags and responsibilities are
+ * aggregated per row by {@code ARRAY(...)} subqueries, so each read is one statement.
+ *
+ * <p>These queries bypass the Hibernate second-level and query caches; the DTO caches in front
+ * of the services still apply. Orders match the JPQL queries they replace.</p>
+ *
+ * <p>The {@code stream} methods serve the NDJSON export: they read through a server-side cursor,
+ * {@value #STREAM_FETCH_SIZE} rows per round trip, so memory stays flat whatever the table size.
+ * The Postgres driver only uses a cursor inside a transaction; the returned stream must be
+ * consumed and closed before it ends.</p>
+ */
+@Repository
+public class DtoProjectionRepository {
+
+    private static final String PROJECT_SELECT = """
+            SELECT p.id, p.title, p.description, p.summary, p.github_url, p.live_url, p.image_url,
+                   p.start_date, p.end_date, p.featured, p.created_at, p.updated_at,
+                   ARRAY(SELECT t.name FROM project_technology_tags pt JOIN tags t ON t.id = pt.tag_id
+                         WHERE pt.project_id = p.id ORDER BY t.name) AS technologies,
+                   ARRAY(SELECT t.name FROM project_category_tags pc JOIN tags t ON t.id = pc.tag_id
+                         WHERE pc.project_id = p.id ORDER BY t.name) AS categories
+            FROM projects p
+            """;
+
+    private static final String EXPERIENCE_SELECT = """
+            SELECT e.id, e.company, e.position, e.description, e.location, e.start_date, e.end_date,
+                   e."current", e.company_logo_url,
+                   ARRAY(SELECT r.responsibility FROM experience_responsibilities r
+                         WHERE r.experience_id = e.id ORDER BY r.responsibility) AS responsibilities,
+                   ARRAY(SELECT t.name FROM experience_technology_tags et JOIN tags t ON t.id = et.tag_id
+                         WHERE et.experience_id = e.id ORDER BY t.name) AS technologies
+            FROM experiences e
+            """;
+
+    private static final String SKILL_SELECT = """
+            SELECT s.id, s.name, s.category, s.proficiency_level, s.icon_url, s.years_of_experience,
+                   s.created_at, s.updated_at
+            FROM skills s
+            """;
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final RowMapper<ProjectDto> PROJECT_ROW = (rs, rowNum) -> ProjectDto.builder()
+            .id(rs.getLong("id"))
+            .title(rs.getString("title"))
+            .description(rs.getString("description"))
+            .summary(rs.getString("summary"))
+            .githubUrl(rs.getString("github_url"))
+            .liveUrl(rs.getString("live_url"))
+            .imageUrl(rs.getString("image_url"))
+            .startDate(rs.getObject("start_date", LocalDateTime.class))
+            .endDate(rs.getObject("end_date", LocalDateTime.class))
+            .featured(rs.getBoolean("featured"))
+            .technologies(TagNames.intern(strings(rs, "technologies")))
+            .categories(TagNames.intern(strings(rs, "categories")))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+
+    private static final RowMapper<ExperienceDto> EXPERIENCE_ROW = (rs, rowNum) -> ExperienceDto.builder()
+            .id(rs.getLong("id"))
+            .company(rs.getString("company"))
+            .position(rs.getString("position"))
+            .description(rs.getString("description"))
+            .location(rs.getString("location"))
+            .startDate(rs.getObject("start_date", LocalDateTime.class))
+            .endDate(rs.getObject("end_date", LocalDateTime.class))
+            .current(rs.getBoolean("current"))
+            .companyLogoUrl(rs.getString("company_logo_url"))
+            .responsibilities(SortedStringSet.of(strings(rs, "responsibilities")))
+            .technologies(TagNames.intern(strings(rs, "technologies")))
+            .build();
+
+    private static final RowMapper<SkillDto> SKILL_ROW = (rs, rowNum) -> SkillDto.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .category(rs.getString("category"))
+            .proficiencyLevel(rs.getObject("proficiency_level", Integer.class))
+            .iconUrl(rs.getString("icon_url"))
+            .yearsOfExperience(rs.getObject("years_of_experience", Integer.class))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate streamingTemplate;
+
+    public DtoProjectionRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        streaming.setFetchSize(STREAM_FETCH_SIZE);
+        this.streamingTemplate = new NamedParameterJdbcTemplate(streaming);
+    }
+
+    public List<ProjectDto> findAllProjects() {
+        return jdbcTemplate.query(PROJECT_SELECT + "ORDER BY p.id", PROJECT_ROW);
+    }
+
+    public List<ProjectDto> findFeaturedProjects() {
+        return jdbcTemplate.query(PROJECT_SELECT + "WHERE p.featured = true ORDER BY p.id", PROJECT_ROW);
+    }
+
+    public ProjectDto findProjectById(Long id) {
+        List<ProjectDto> projects = jdbcTemplate.query(PROJECT_SELECT + "WHERE p.id = :id", Map.of("id", id), PROJECT_ROW);
+        return projects.isEmpty() ? null : projects.get(0);
+    }
+
+    /**
+     * @return the projects with the given ids, in no particular order
+     */
+    public List<ProjectDto> findProjectsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(PROJECT_SELECT + "WHERE p.id IN (:ids)", Map.of("ids", ids), PROJECT_ROW);
+    }
+
+    public List<ExperienceDto> findAllExperiences() {
+        return jdbcTemplate.query(EXPERIENCE_SELECT + "ORDER BY e.start_date DESC, e.id DESC", EXPERIENCE_ROW);
+    }
+
+    public List<ExperienceDto> findCurrentExperiences() {
+        return jdbcTemplate.query(EXPERIENCE_SELECT + "WHERE e.\"current\" = true ORDER BY e.start_date DESC, e.id DESC",
+                EXPERIENCE_ROW);
+    }
+
+    public ExperienceDto findExperienceById(Long id) {
+        List<ExperienceDto> experiences = jdbcTemplate.query(EXPERIENCE_SELECT + "WHERE e.id = :id", Map.of("id", id),
+                EXPERIENCE_ROW);
+        return experiences.isEmpty() ? null : experiences.get(0);
+    }
+
+    /**
+     * @return the experiences with the given ids, in no particular order
+     */
+    public List<ExperienceDto> findExperiencesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(EXPERIENCE_SELECT + "WHERE e.id IN (:ids)", Map.of("ids", ids), EXPERIENCE_ROW);
+    }
+
+    public Stream<ProjectDto> streamProjects() {
+        return streamingTemplate.queryForStream(PROJECT_SELECT + "ORDER BY p.id", Map.of(), PROJECT_ROW);
+    }
+
+    public Stream<SkillDto> streamSkills() {
+        return streamingTemplate.queryForStream(SKILL_SELECT + "ORDER BY s.id", Map.of(), SKILL_ROW);
+    }
+
+    public Stream<ExperienceDto> streamExperiences() {
+        return streamingTemplate.queryForStream(EXPERIENCE_SELECT + "ORDER BY e.id", Map.of(), EXPERIENCE_ROW);
+    }
+
+    private static List<String> strings(ResultSet rs, String column) throws SQLException {
+        Array array = rs.getArray(column);
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return Arrays.asList((String[]) array.getArray());
+        } finally {
+            array.free();
+        }
+    }
+}
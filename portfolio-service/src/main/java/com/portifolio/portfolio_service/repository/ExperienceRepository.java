@@ -1,22 +1,52 @@
 package com.portifolio.portfolio_service.repository;
 
 import com.portifolio.portfolio_service.model.Experience;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ExperienceRepository extends JpaRepository<Experience, Long> {
 
-    @Query("SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.responsibilities LEFT JOIN FETCH e.technologies WHERE e.current = true ORDER BY e.startDate DESC")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.responsibilities LEFT JOIN FETCH e.technologies WHERE e.current = true ORDER BY e.startDate DESC, e.id DESC")
     List<Experience> findByCurrentTrue();
 
-    @Query("SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.responsibilities LEFT JOIN FETCH e.technologies ORDER BY e.startDate DESC")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.responsibilities LEFT JOIN FETCH e.technologies ORDER BY e.startDate DESC, e.id DESC")
     List<Experience> findAllOrderByStartDateDesc();
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.responsibilities LEFT JOIN FETCH e.technologies WHERE e.id = :id")
     Experience findByIdWithCollections(@Param("id") Long id);
+
+    // Root-only variants for CollectionFetchStrategy.SUBSELECT
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT e FROM Experience e WHERE e.current = true ORDER BY e.startDate DESC, e.id DESC")
+    List<Experience> findCurrentLazy();
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT e FROM Experience e ORDER BY e.startDate DESC, e.id DESC")
+    List<Experience> findAllOrderByStartDateDescLazy();
+
+    // Keyset pagination on (startDate DESC, id DESC), served by idx_experiences_start_date_id.
+    // Like findAllOrderByStartDateDesc, rows without a start date sort first (Postgres DESC is NULLS FIRST).
+
+    @Query("SELECT e.id FROM Experience e ORDER BY e.startDate DESC NULLS FIRST, e.id DESC")
+    List<Long> findPageIds(Pageable pageable);
+
+    @Query("SELECT e.id FROM Experience e WHERE e.startDate < :startDate OR (e.startDate = :startDate AND e.id < :id) ORDER BY e.startDate DESC NULLS FIRST, e.id DESC")
+    List<Long> findPageIdsAfter(@Param("startDate") LocalDateTime startDate, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT e.id FROM Experience e WHERE (e.startDate IS NULL AND e.id < :id) OR e.startDate IS NOT NULL ORDER BY e.startDate DESC NULLS FIRST, e.id DESC")
+    List<Long> findPageIdsAfterUndated(@Param("id") Long id, Pageable pageable);
 }
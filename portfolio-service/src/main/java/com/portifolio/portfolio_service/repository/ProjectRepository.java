@@ -1,28 +1,49 @@
 package com.portifolio.portfolio_service.repository;
 
 import com.portifolio.portfolio_service.model.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
-    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.technologies LEFT JOIN FETCH p.categories WHERE p.featured = true")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.technologies LEFT JOIN FETCH p.categories WHERE p.featured = true ORDER BY p.id")
     List<Project> findByFeaturedTrue();
 
-    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.technologies LEFT JOIN FETCH p.categories JOIN p.categories c WHERE c = :category")
-    List<Project> findByCategory(@Param("category") String category);
-
-    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.technologies LEFT JOIN FETCH p.categories JOIN p.technologies t WHERE t = :technology")
-    List<Project> findByTechnology(@Param("technology") String technology);
-
-    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.technologies LEFT JOIN FETCH p.categories")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.technologies LEFT JOIN FETCH p.categories ORDER BY p.id")
     List<Project> findAllWithCollections();
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.technologies LEFT JOIN FETCH p.categories WHERE p.id = :id")
     Project findByIdWithCollections(@Param("id") Long id);
+
+    // Root-only variants for CollectionFetchStrategy.SUBSELECT: collections are loaded afterwards
+    // with one subselect query each instead of being joined into the result set.
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT p FROM Project p ORDER BY p.id")
+    List<Project> findAllLazy();
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT p FROM Project p WHERE p.featured = true ORDER BY p.id")
+    List<Project> findFeaturedLazy();
+
+    // Keyset pagination on (updatedAt DESC, id DESC), served by idx_projects_updated_at_id
+
+    @Query("SELECT p.id FROM Project p ORDER BY p.updatedAt DESC, p.id DESC")
+    List<Long> findPageIds(Pageable pageable);
+
+    @Query("SELECT p.id FROM Project p WHERE p.updatedAt < :updatedAt OR (p.updatedAt = :updatedAt AND p.id < :id) ORDER BY p.updatedAt DESC, p.id DESC")
+    List<Long> findPageIdsAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id, Pageable pageable);
 }
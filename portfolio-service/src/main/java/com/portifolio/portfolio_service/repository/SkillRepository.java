@@ -1,13 +1,31 @@
 package com.portifolio.portfolio_service.repository;
 
 import com.portifolio.portfolio_service.model.Skill;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface SkillRepository extends JpaRepository<Skill, Long> {
-    List<Skill> findByCategory(String category);
-    List<Skill> findByProficiencyLevelGreaterThanEqual(Integer level);
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<Skill> findByCategoryOrderByIdAsc(String category);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<Skill> findByProficiencyLevelGreaterThanEqualOrderByIdAsc(Integer level);
+
+    // Keyset pagination on (updatedAt DESC, id DESC), served by idx_skills_updated_at_id
+
+    @Query("SELECT s FROM Skill s ORDER BY s.updatedAt DESC, s.id DESC")
+    List<Skill> findPage(Pageable pageable);
+
+    @Query("SELECT s FROM Skill s WHERE s.updatedAt < :updatedAt OR (s.updatedAt = :updatedAt AND s.id < :id) ORDER BY s.updatedAt DESC, s.id DESC")
+    List<Skill> findPageAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,27 @@
+package com.portifolio.portfolio_service.repository;
+
+import com.portifolio.portfolio_service.model.Tag;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Integer> {
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // Names inserted concurrently by another transaction are skipped instead of failing on the
+    // unique constraint; the native spaces hint limits second-level cache invalidation to tags
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "tags"))
+    @Query(value = "INSERT INTO tags (name) SELECT unnest(CAST(:names AS text[])) ON CONFLICT (name) DO NOTHING",
+            nativeQuery = true)
+    int insertMissing(@Param("names") String[] names);
+}
@@ -1,12 +1,21 @@
 package com.portifolio.portfolio_service.repository;
 
 import com.portifolio.portfolio_service.model.UserProfile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<UserProfile> findByUsername(String username);
+
+    @Query("SELECT u.username FROM UserProfile u ORDER BY u.id")
+    List<String> findAllUsernames();
 }
@@ -0,0 +1,155 @@
+package com.portifolio.portfolio_service.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portifolio.portfolio_service.cache.PortfolioAggregate;
+import com.portifolio.portfolio_service.cache.PortfolioCacheMaintainer;
+import com.portifolio.portfolio_service.dto.ExperienceDto;
+import com.portifolio.portfolio_service.dto.ImportResultDto;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.SkillDto;
+import com.portifolio.portfolio_service.exception.InvalidImportException;
+import com.portifolio.portfolio_service.model.Tag;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bulk import of projects, skills or experiences from an NDJSON stream or a JSON array.
+ *
+ * <p>Entities are persisted through the entity manager in chunks; each chunk is flushed, which
+ * sends the inserts (entity rows, tag join rows, responsibilities) as JDBC batches thanks to
+ * the pooled sequence ids and {@code hibernate.jdbc.batch_size}, and then cleared so the
+ * persistence context stays small. Tags are resolved once per chunk. The whole import is one
+ * transaction, and the caches of the aggregate are reset once after it commits rather than
+ * patched per row.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportService {
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TagDictionary tagDictionary;
+    private final ProjectService projectService;
+    private final SkillService skillService;
+    private final ExperienceService experienceService;
+    private final PortfolioCacheMaintainer cacheMaintainer;
+
+    // A multiple of hibernate.jdbc.batch_size, so every flush sends full batches
+    @Value("${portfolio.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Transactional
+    public ImportResultDto importStream(PortfolioAggregate aggregate, InputStream body) {
+        long start = System.currentTimeMillis();
+        Chunks chunks = switch (aggregate) {
+            case PROJECTS -> read(body, ProjectDto.class, this::persistProjects);
+            case SKILLS -> read(body, SkillDto.class, this::persistSkills);
+            case EXPERIENCES -> read(body, ExperienceDto.class, this::persistExperiences);
+            case PROFILES -> throw new InvalidImportException("Profiles cannot be bulk imported");
+        };
+        if (chunks.rows() > 0) {
+            cacheMaintainer.reloaded(aggregate);
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Imported {} {} in {} chunks in {} ms", chunks.rows(), aggregate, chunks.count(), elapsed);
+        return ImportResultDto.builder()
+                .type(aggregate.name())
+                .imported(chunks.rows())
+                .chunks(chunks.count())
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    /**
+     * Streams the body, which may be an array or a sequence of root-level values (NDJSON),
+     * handing it to {@code persist} a chunk at a time.
+     */
+    private <T> Chunks read(InputStream body, Class<T> type, Consumer<List<T>> persist) {
+        long rows = 0;
+        int count = 0;
+        List<T> chunk = new ArrayList<>(chunkSize);
+        try (MappingIterator<T> values = objectMapper.readerFor(type).readValues(body)) {
+            while (values.hasNextValue()) {
+                chunk.add(values.nextValue());
+                if (chunk.size() == chunkSize) {
+                    persist.accept(chunk);
+                    rows += chunk.size();
+                    count++;
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new InvalidImportException("Invalid " + type.getSimpleName() + " at row "
+                    + (rows + chunk.size() + 1) + ": " + e.getMessage(), e);
+        }
+        if (!chunk.isEmpty()) {
+            persist.accept(chunk);
+            rows += chunk.size();
+            count++;
+        }
+        return new Chunks(rows, count);
+    }
+
+    private void persistProjects(List<ProjectDto> projects) {
+        Set<String> names = new HashSet<>();
+        projects.forEach(project -> {
+            addAll(names, project.getTechnologies());
+            addAll(names, project.getCategories());
+        });
+        Function<Collection<String>, Set<Tag>> tags = tagDictionary.resolver(names);
+        for (ProjectDto project : projects) {
+            project.setId(null);
+            entityManager.persist(projectService.mapToEntity(project, tags));
+        }
+        flushAndClear();
+    }
+
+    private void persistSkills(List<SkillDto> skills) {
+        for (SkillDto skill : skills) {
+            skill.setId(null);
+            entityManager.persist(skillService.mapToEntity(skill));
+        }
+        flushAndClear();
+    }
+
+    private void persistExperiences(List<ExperienceDto> experiences) {
+        Set<String> names = new HashSet<>();
+        experiences.forEach(experience -> addAll(names, experience.getTechnologies()));
+        Function<Collection<String>, Set<Tag>> tags = tagDictionary.resolver(names);
+        for (ExperienceDto experience : experiences) {
+            experience.setId(null);
+            entityManager.persist(experienceService.mapToEntity(experience, tags));
+        }
+        flushAndClear();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static void addAll(Set<String> names, Collection<String> values) {
+        if (values != null) {
+            names.addAll(values);
+        }
+    }
+
+    private record Chunks(long rows, int count) {
+    }
+}
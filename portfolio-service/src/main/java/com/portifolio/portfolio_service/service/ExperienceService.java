@@ -1,16 +1,32 @@
 package com.portifolio.portfolio_service.service;
 
+import com.portifolio.portfolio_service.cache.PortfolioCacheMaintainer;
+import com.portifolio.portfolio_service.dto.CursorPage;
 import com.portifolio.portfolio_service.dto.ExperienceDto;
+import com.portifolio.portfolio_service.dto.PageCursor;
+import com.portifolio.portfolio_service.dto.SortedStringSet;
+import com.portifolio.portfolio_service.dto.TagNames;
 import com.portifolio.portfolio_service.model.Experience;
+import com.portifolio.portfolio_service.model.Tag;
+import com.portifolio.portfolio_service.repository.CollectionFetchStrategy;
+import com.portifolio.portfolio_service.repository.DtoProjectionRepository;
 import com.portifolio.portfolio_service.repository.ExperienceRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,23 +34,116 @@ import java.util.stream.Collectors;
 public class ExperienceService {
 
     private final ExperienceRepository experienceRepository;
+    private final DtoProjectionRepository projections;
+    private final PortfolioCacheMaintainer cacheMaintainer;
+    private final PortfolioReadModel readModel;
+    private final TagDictionary tagDictionary;
 
-    @Cacheable("experiences")
+    @Value("${portfolio.persistence.collection-fetch:SUBSELECT}")
+    private CollectionFetchStrategy collectionFetch;
+
+    @Cacheable(value = "experiences", sync = true)
+    @Transactional(readOnly = true)
     public List<ExperienceDto> getAllExperiences() {
-        return experienceRepository.findAllOrderByStartDateDesc().stream()
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            return snapshot.experiences();
+        }
+        return loadAllExperiences();
+    }
+
+    List<ExperienceDto> loadAllExperiences() {
+        if (collectionFetch == CollectionFetchStrategy.PROJECTION) {
+            return projections.findAllExperiences();
+        }
+        List<Experience> experiences = collectionFetch == CollectionFetchStrategy.JOIN
+                ? experienceRepository.findAllOrderByStartDateDesc()
+                : experienceRepository.findAllOrderByStartDateDescLazy();
+        return experiences.stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
-    @Cacheable("currentExperiences")
+    @Cacheable(value = "currentExperiences", sync = true)
+    @Transactional(readOnly = true)
     public List<ExperienceDto> getCurrentExperiences() {
-        return experienceRepository.findByCurrentTrue().stream()
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            return snapshot.currentExperiences();
+        }
+        if (collectionFetch == CollectionFetchStrategy.PROJECTION) {
+            return projections.findCurrentExperiences();
+        }
+        List<Experience> experiences = collectionFetch == CollectionFetchStrategy.JOIN
+                ? experienceRepository.findByCurrentTrue()
+                : experienceRepository.findCurrentLazy();
+        return experiences.stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
-    @Cacheable(value = "experience", key = "#id")
+    /**
+     * Keyset page of experiences in the same order as {@link #getAllExperiences()}.
+     * Page ids come from the (startDate, id) index; rows and collections are then loaded by id.
+     */
+    @Cacheable(value = "experiencePages", key = "#limit + ':' + #cursor", sync = true)
+    @Transactional(readOnly = true)
+    public CursorPage<ExperienceDto> getExperiencePage(String cursor, int limit) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = PageCursor.clampLimit(limit);
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            return snapshot.experiencePage(after, pageSize);
+        }
+        Pageable window = PageRequest.ofSize(pageSize + 1);
+
+        List<Long> ids;
+        if (after == null) {
+            ids = experienceRepository.findPageIds(window);
+        } else if (after.key() == null) {
+            ids = experienceRepository.findPageIdsAfterUndated(after.id(), window);
+        } else {
+            ids = experienceRepository.findPageIdsAfter(after.key(), after.id(), window);
+        }
+        boolean hasMore = ids.size() > pageSize;
+        List<Long> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+
+        List<ExperienceDto> pageExperiences = collectionFetch == CollectionFetchStrategy.PROJECTION
+                ? projections.findExperiencesByIds(pageIds)
+                : experienceRepository.findAllById(pageIds).stream().map(this::mapToDto).toList();
+        Map<Long, ExperienceDto> experiencesById = pageExperiences.stream()
+                .collect(Collectors.toMap(ExperienceDto::getId, Function.identity()));
+        List<ExperienceDto> items = pageIds.stream()
+                .map(experiencesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasMore && !items.isEmpty()) {
+            ExperienceDto last = items.get(items.size() - 1);
+            nextCursor = new PageCursor(last.getStartDate(), last.getId()).encode();
+        }
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    @Cacheable(value = "experience", key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public ExperienceDto getExperienceById(Long id) {
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            ExperienceDto experience = snapshot.experience(id);
+            if (experience == null) {
+                throw new EntityNotFoundException("Experience not found with id: " + id);
+            }
+            return experience;
+        }
+        if (collectionFetch == CollectionFetchStrategy.PROJECTION) {
+            ExperienceDto experience = projections.findExperienceById(id);
+            if (experience == null) {
+                throw new EntityNotFoundException("Experience not found with id: " + id);
+            }
+            return experience;
+        }
         Experience experience = experienceRepository.findByIdWithCollections(id);
         if (experience == null) {
             throw new EntityNotFoundException("Experience not found with id: " + id);
@@ -43,31 +152,32 @@ public class ExperienceService {
     }
 
     @Transactional
-    @CacheEvict(value = {"experiences", "currentExperiences"}, allEntries = true)
     public ExperienceDto createExperience(ExperienceDto experienceDto) {
-        Experience experience = mapToEntity(experienceDto);
+        Experience experience = mapToEntity(experienceDto, tagDictionary::resolve);
         Experience savedExperience = experienceRepository.save(experience);
-        return mapToDto(savedExperience);
+        ExperienceDto createdExperience = mapToDto(savedExperience);
+        cacheMaintainer.experienceSaved(createdExperience, savedExperience.getVersion());
+        return createdExperience;
     }
 
     @Transactional
-    @CacheEvict(value = {"experiences", "currentExperiences", "experience"}, allEntries = true)
     public ExperienceDto updateExperience(Long id, ExperienceDto experienceDto) {
         Experience existingExperience = experienceRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Experience not found with id: " + id));
 
         updateEntityFromDto(existingExperience, experienceDto);
-        Experience updatedExperience = experienceRepository.save(existingExperience);
-        return mapToDto(updatedExperience);
+        Experience updatedExperience = experienceRepository.saveAndFlush(existingExperience);
+        ExperienceDto updatedExperienceDto = mapToDto(updatedExperience);
+        cacheMaintainer.experienceSaved(updatedExperienceDto, updatedExperience.getVersion());
+        return updatedExperienceDto;
     }
 
     @Transactional
-    @CacheEvict(value = {"experiences", "currentExperiences", "experience"}, allEntries = true)
     public void deleteExperience(Long id) {
-        if (!experienceRepository.existsById(id)) {
-            throw new EntityNotFoundException("Experience not found with id: " + id);
-        }
-        experienceRepository.deleteById(id);
+        Experience experience = experienceRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Experience not found with id: " + id));
+        experienceRepository.delete(experience);
+        cacheMaintainer.experienceDeleted(id, experience.getVersion() + 1);
     }
 
     private ExperienceDto mapToDto(Experience experience) {
@@ -81,12 +191,19 @@ public class ExperienceService {
                 .endDate(experience.getEndDate())
                 .current(experience.isCurrent())
                 .companyLogoUrl(experience.getCompanyLogoUrl())
-                .responsibilities(experience.getResponsibilities())
-                .technologies(experience.getTechnologies())
+                .responsibilities(arrayMode(experience.getResponsibilityTexts())
+                        ? SortedStringSet.of(Arrays.asList(experience.getResponsibilityTexts()))
+                        : SortedStringSet.of(experience.getResponsibilities()))
+                .technologies(arrayMode(experience.getTechnologyNames())
+                        ? TagNames.intern(Arrays.asList(experience.getTechnologyNames()))
+                        : TagDictionary.names(experience.getTechnologies()))
                 .build();
     }
 
-    private Experience mapToEntity(ExperienceDto experienceDto) {
+    /**
+     * @param tags resolves tag names to dictionary entries (see {@link TagDictionary})
+     */
+    Experience mapToEntity(ExperienceDto experienceDto, Function<Collection<String>, Set<Tag>> tags) {
         return Experience.builder()
                 .id(experienceDto.getId())
                 .company(experienceDto.getCompany())
@@ -98,7 +215,7 @@ public class ExperienceService {
                 .current(experienceDto.isCurrent())
                 .companyLogoUrl(experienceDto.getCompanyLogoUrl())
                 .responsibilities(experienceDto.getResponsibilities())
-                .technologies(experienceDto.getTechnologies())
+                .technologies(tags.apply(experienceDto.getTechnologies()))
                 .build();
     }
 
@@ -112,6 +229,12 @@ public class ExperienceService {
         experience.setCurrent(experienceDto.isCurrent());
         experience.setCompanyLogoUrl(experienceDto.getCompanyLogoUrl());
         experience.setResponsibilities(experienceDto.getResponsibilities());
-        experience.setTechnologies(experienceDto.getTechnologies());
+        experience.setTechnologies(tagDictionary.resolve(experienceDto.getTechnologies()));
+        experience.syncArrays();
+    }
+
+    // ARRAY reads the denormalized columns unless the row predates the backfill
+    private boolean arrayMode(String[] values) {
+        return collectionFetch == CollectionFetchStrategy.ARRAY && values != null;
     }
 }
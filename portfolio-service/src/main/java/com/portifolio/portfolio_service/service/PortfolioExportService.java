@@ -0,0 +1,93 @@
+package com.portifolio.portfolio_service.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.portifolio.portfolio_service.cache.PortfolioAggregate;
+import com.portifolio.portfolio_service.repository.DtoProjectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Streams projects, skills and experiences as NDJSON, one object per line, straight from the
+ * database cursor to the output: rows are serialized as they are read and nothing is collected,
+ * so memory use does not grow with the tables.
+ *
+ * <p>A single-type export writes bare DTOs, the format the bulk import accepts. Exporting
+ * several types wraps each line as {@code {"type":"projects","data":{...}}}.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioExportService {
+
+    private final DtoProjectionRepository dtoProjectionRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes the given aggregates to {@code out}, which is flushed but not closed.
+     *
+     * @return the number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long export(Collection<PortfolioAggregate> aggregates, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        // The response stream is flushed once at the end, not after every row
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        boolean envelope = aggregates.size() > 1;
+        long rows = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Lines are separated by the newline written after each row, not Jackson's default space
+            generator.setRootValueSeparator(null);
+            for (PortfolioAggregate aggregate : aggregates) {
+                try (Stream<?> values = stream(aggregate)) {
+                    String type = aggregate.name().toLowerCase(Locale.ROOT);
+                    rows += values.mapToLong(value -> write(generator, writer, envelope ? type : null, value)).sum();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+        log.info("Exported {} rows of {} in {} ms", rows, aggregates, System.currentTimeMillis() - start);
+        return rows;
+    }
+
+    private Stream<?> stream(PortfolioAggregate aggregate) {
+        return switch (aggregate) {
+            case PROJECTS -> dtoProjectionRepository.streamProjects();
+            case SKILLS -> dtoProjectionRepository.streamSkills();
+            case EXPERIENCES -> dtoProjectionRepository.streamExperiences();
+            case PROFILES -> throw new IllegalArgumentException("Profiles are not exported");
+        };
+    }
+
+    private static long write(JsonGenerator generator, ObjectWriter writer, String type, Object value) {
+        try {
+            if (type != null) {
+                generator.writeStartObject();
+                generator.writeStringField("type", type);
+                generator.writeFieldName("data");
+                writer.writeValue(generator, value);
+                generator.writeEndObject();
+            } else {
+                writer.writeValue(generator, value);
+            }
+            generator.writeRaw('\n');
+            return 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
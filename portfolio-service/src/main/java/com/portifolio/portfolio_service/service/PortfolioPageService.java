@@ -0,0 +1,110 @@
+package com.portifolio.portfolio_service.service;
+
+import com.portifolio.portfolio_service.config.ReadWriteRoutingDataSource;
+import com.portifolio.portfolio_service.dto.ExperienceDto;
+import com.portifolio.portfolio_service.dto.PortfolioPageDto;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.SkillDto;
+import com.portifolio.portfolio_service.dto.UserProfileDto;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Assembles a whole public portfolio page (profile, projects, featured projects, skills and
+ * experiences) with one call instead of five.
+ *
+ * <p>The parts are loaded concurrently on Boot's {@code applicationTaskExecutor}, so the page
+ * takes as long as its slowest part rather than the sum. Each part has its own deadline
+ * ({@code portfolio.page.part-timeout}); a part that fails or misses it is left out and
+ * reported in {@link PortfolioPageDto#getDegradedParts()}. An unknown username is still a 404.
+ * A part that timed out keeps running in the background and fills its cache for the next
+ * request.</p>
+ */
+@Service
+@Slf4j
+public class PortfolioPageService {
+
+    private final UserProfileService userProfileService;
+    private final ProjectService projectService;
+    private final SkillService skillService;
+    private final ExperienceService experienceService;
+    private final AsyncTaskExecutor executor;
+
+    @Value("${portfolio.page.part-timeout:2s}")
+    private Duration partTimeout;
+
+    public PortfolioPageService(UserProfileService userProfileService, ProjectService projectService,
+                                SkillService skillService, ExperienceService experienceService,
+                                @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor) {
+        this.userProfileService = userProfileService;
+        this.projectService = projectService;
+        this.skillService = skillService;
+        this.experienceService = experienceService;
+        this.executor = executor;
+    }
+
+    public PortfolioPageDto getPortfolioPage(String username) {
+        CompletableFuture<UserProfileDto> profile = load(() -> userProfileService.getUserProfileByUsername(username));
+        CompletableFuture<List<ProjectDto>> projects = load(projectService::getAllProjects);
+        CompletableFuture<List<ProjectDto>> featuredProjects = load(projectService::getFeaturedProjects);
+        CompletableFuture<List<SkillDto>> skills = load(skillService::getAllSkills);
+        CompletableFuture<List<ExperienceDto>> experiences = load(experienceService::getAllExperiences);
+
+        List<String> degraded = new ArrayList<>();
+        return PortfolioPageDto.builder()
+                .profile(result("profile", profile, degraded))
+                .projects(result("projects", projects, degraded))
+                .featuredProjects(result("featuredProjects", featuredProjects, degraded))
+                .skills(result("skills", skills, degraded))
+                .experiences(result("experiences", experiences, degraded))
+                .degradedParts(degraded)
+                .degraded(!degraded.isEmpty())
+                .build();
+    }
+
+    private <T> CompletableFuture<T> load(Supplier<T> part) {
+        // Read-your-writes: a request pinned to the primary keeps the pin on the worker thread
+        boolean pinned = ReadWriteRoutingDataSource.isPinnedToPrimary();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                ReadWriteRoutingDataSource.pinToPrimary(pinned);
+                try {
+                    return part.get();
+                } finally {
+                    ReadWriteRoutingDataSource.pinToPrimary(false);
+                }
+            }, executor).orTimeout(partTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // All parts were started before the first join, so waiting on them in turn is bounded by the slowest
+    private static <T> T result(String part, CompletableFuture<T> future, List<String> degraded) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof EntityNotFoundException notFound) {
+                throw notFound;
+            }
+            log.warn("Portfolio page part '{}' degraded: {}", part, cause.toString());
+            degraded.add(part);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.portifolio.portfolio_service.service;
+
+import com.portifolio.portfolio_service.cache.PortfolioChangeEvent;
+import com.portifolio.portfolio_service.config.ReadWriteRoutingDataSource;
+import com.portifolio.portfolio_service.dto.ExperienceDto;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.ReadModelCheckDto;
+import com.portifolio.portfolio_service.dto.SkillDto;
+import com.portifolio.portfolio_service.dto.UserProfileDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Optional CQRS read side for the public API (portfolio.read-model.enabled).
+ *
+ * <p>Holds a {@link PortfolioSnapshot} of every project, skill, experience and profile. It is
+ * built on startup, before the cache warm-up, from one read-only repeatable-read transaction,
+ * and replaced on every committed write by {@link #apply}. While a snapshot is present the
+ * public service methods answer from it without running any SQL.</p>
+ *
+ * <p>Rebuilds and updates are serialized. A write that commits while a rebuild is reading the
+ * database is applied on top of the rebuilt snapshot, so it cannot be lost.</p>
+ */
+@Component
+@Slf4j
+public class PortfolioReadModel {
+
+    private final ObjectProvider<ProjectService> projectService;
+    private final ObjectProvider<SkillService> skillService;
+    private final ObjectProvider<ExperienceService> experienceService;
+    private final ObjectProvider<UserProfileService> userProfileService;
+    private final TransactionTemplate snapshotTransaction;
+    private final AtomicReference<PortfolioSnapshot> snapshot = new AtomicReference<>();
+    // Guards rebuilds and updates; loading under it must not pin a virtual thread, hence no synchronized
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Value("${portfolio.read-model.enabled:false}")
+    private boolean enabled;
+
+    public PortfolioReadModel(ObjectProvider<ProjectService> projectService,
+                              ObjectProvider<SkillService> skillService,
+                              ObjectProvider<ExperienceService> experienceService,
+                              ObjectProvider<UserProfileService> userProfileService,
+                              PlatformTransactionManager transactionManager) {
+        this.projectService = projectService;
+        this.skillService = skillService;
+        this.experienceService = experienceService;
+        this.userProfileService = userProfileService;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        // Own transaction: RELOADED loads run from afterCommit, where a joined transaction would
+        // ignore readOnly and REPEATABLE_READ and load into the import's EntityManager
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the current snapshot, or null when the read model is disabled or not built yet
+     */
+    public PortfolioSnapshot current() {
+        return enabled ? snapshot.get() : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void buildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            PortfolioSnapshot built = rebuild();
+            log.info("Read model built: {} projects, {} skills, {} experiences, {} profiles",
+                    built.projects().size(), built.skills().size(), built.experiences().size(),
+                    built.profiles().size());
+        } catch (RuntimeException e) {
+            log.warn("Could not build the read model, serving from the database: {}", e.getMessage());
+        }
+    }
+
+    public PortfolioSnapshot rebuild() {
+        lock.lock();
+        try {
+            PortfolioSnapshot built = load();
+            snapshot.set(built);
+            return built;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies a committed change to the snapshot. Called by the cache maintainer for local
+     * writes and for changes received from other replicas.
+     */
+    public void apply(PortfolioChangeEvent event) {
+        lock.lock();
+        try {
+            PortfolioSnapshot current = snapshot.get();
+            if (!enabled || current == null) {
+                return;
+            }
+            if (event.type() == PortfolioChangeEvent.Type.RELOADED) {
+                snapshot.set(load());
+                return;
+            }
+            boolean saved = event.type() == PortfolioChangeEvent.Type.SAVED;
+            PortfolioSnapshot updated = switch (event.aggregate()) {
+                case PROJECTS -> saved ? current.withProject((ProjectDto) event.payload()) : current.withoutProject(event.id());
+                case SKILLS -> saved ? current.withSkill((SkillDto) event.payload()) : current.withoutSkill(event.id());
+                case EXPERIENCES -> saved
+                        ? current.withExperience((ExperienceDto) event.payload())
+                        : current.withoutExperience(event.id());
+                case PROFILES -> saved ? current.withProfile((UserProfileDto) event.payload()) : current;
+            };
+            snapshot.set(updated);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compares the current snapshot with a fresh load from the database.
+     */
+    public ReadModelCheckDto check() {
+        PortfolioSnapshot built = snapshot.get();
+        PortfolioSnapshot current = built != null ? built : PortfolioSnapshot.of(List.of(), List.of(), List.of(), List.of());
+        PortfolioSnapshot database = load();
+
+        Map<String, ReadModelCheckDto.AggregateDiff> aggregates = new LinkedHashMap<>();
+        aggregates.put("projects", diff(current.projects(), database.projects(), ProjectDto::getId));
+        aggregates.put("skills", diff(current.skills(), database.skills(), SkillDto::getId));
+        aggregates.put("experiences", diff(current.experiences(), database.experiences(), ExperienceDto::getId));
+        aggregates.put("profiles", diff(current.profiles(), database.profiles(), UserProfileDto::getUsername));
+
+        boolean consistent = built != null && aggregates.values().stream().allMatch(diff ->
+                diff.getMissing().isEmpty() && diff.getExtra().isEmpty() && diff.getStale().isEmpty());
+        return ReadModelCheckDto.builder()
+                .consistent(consistent)
+                .snapshotBuiltAt(built != null ? built.getBuiltAt() : null)
+                .checkedAt(LocalDateTime.now())
+                .aggregates(aggregates)
+                .build();
+    }
+
+    private PortfolioSnapshot load() {
+        // From the primary: the snapshot serves every reader, so a lagging replica would hide recent writes
+        return ReadWriteRoutingDataSource.onPrimary(() -> snapshotTransaction.execute(status -> PortfolioSnapshot.of(
+                projectService.getObject().loadAllProjects(),
+                skillService.getObject().loadAllSkills(),
+                experienceService.getObject().loadAllExperiences(),
+                userProfileService.getObject().loadAllProfiles())));
+    }
+
+    private static <T> ReadModelCheckDto.AggregateDiff diff(Collection<T> snapshotValues, Collection<T> databaseValues,
+                                                            Function<T, ?> keyOf) {
+        Map<Object, T> inSnapshot = snapshotValues.stream().collect(Collectors.toMap(keyOf, Function.identity()));
+        Map<Object, T> inDatabase = databaseValues.stream().collect(Collectors.toMap(keyOf, Function.identity()));
+
+        ReadModelCheckDto.AggregateDiff diff = ReadModelCheckDto.AggregateDiff.builder()
+                .snapshotCount(inSnapshot.size())
+                .databaseCount(inDatabase.size())
+                .build();
+        inDatabase.forEach((key, value) -> {
+            T cached = inSnapshot.get(key);
+            if (cached == null) {
+                diff.getMissing().add(String.valueOf(key));
+            } else if (!Objects.equals(cached, value)) {
+                diff.getStale().add(String.valueOf(key));
+            }
+        });
+        inSnapshot.keySet().stream()
+                .filter(key -> !inDatabase.containsKey(key))
+                .forEach(key -> diff.getExtra().add(String.valueOf(key)));
+        return diff;
+    }
+}
@@ -0,0 +1,279 @@
+package com.portifolio.portfolio_service.service;
+
+import com.portifolio.portfolio_service.dto.CursorPage;
+import com.portifolio.portfolio_service.dto.ExperienceDto;
+import com.portifolio.portfolio_service.dto.PageCursor;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.SkillDto;
+import com.portifolio.portfolio_service.dto.UserProfileDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory copy of the public portfolio, with every list the public API serves
+ * precomputed in the same order as the corresponding database query. Instances are never
+ * modified: a write produces a new snapshot through one of the {@code with}/{@code without}
+ * methods, which {@link PortfolioReadModel} swaps in atomically.
+ */
+public final class PortfolioSnapshot {
+
+    // Orders of the repository queries and keyset pages the snapshot stands in for
+    static final Comparator<ProjectDto> PROJECT_ORDER = Comparator.comparing(ProjectDto::getId);
+    static final Comparator<SkillDto> SKILL_ORDER = Comparator.comparing(SkillDto::getId);
+    static final Comparator<ExperienceDto> EXPERIENCE_ORDER = Comparator.comparing(
+                    ExperienceDto::getStartDate, Comparator.nullsFirst(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(ExperienceDto::getId, Comparator.reverseOrder());
+    private static final Comparator<ProjectDto> PROJECT_PAGE_ORDER = Comparator.comparing(
+                    ProjectDto::getUpdatedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(ProjectDto::getId, Comparator.reverseOrder());
+    private static final Comparator<SkillDto> SKILL_PAGE_ORDER = Comparator.comparing(
+                    SkillDto::getUpdatedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(SkillDto::getId, Comparator.reverseOrder());
+
+    private final LocalDateTime builtAt;
+
+    private final List<ProjectDto> projects;
+    private final List<ProjectDto> featuredProjects;
+    private final List<ProjectDto> projectPageOrder;
+    private final Map<Long, ProjectDto> projectsById;
+    private final Map<String, List<ProjectDto>> projectsByCategory;
+    private final Map<String, List<ProjectDto>> projectsByTechnology;
+
+    private final List<SkillDto> skills;
+    private final List<SkillDto> skillPageOrder;
+    private final Map<Long, SkillDto> skillsById;
+    private final Map<String, List<SkillDto>> skillsByCategory;
+
+    private final List<ExperienceDto> experiences;
+    private final List<ExperienceDto> currentExperiences;
+    private final Map<Long, ExperienceDto> experiencesById;
+
+    private final Map<String, UserProfileDto> profilesByUsername;
+
+    private PortfolioSnapshot(Collection<ProjectDto> projects, Collection<SkillDto> skills,
+                              Collection<ExperienceDto> experiences, Collection<UserProfileDto> profiles,
+                              LocalDateTime builtAt) {
+        this.builtAt = builtAt;
+
+        this.projects = sorted(projects, PROJECT_ORDER);
+        this.featuredProjects = this.projects.stream().filter(ProjectDto::isFeatured).toList();
+        this.projectPageOrder = sorted(projects, PROJECT_PAGE_ORDER);
+        this.projectsById = byId(this.projects, ProjectDto::getId);
+        this.projectsByCategory = groupByTag(this.projects, ProjectDto::getCategories);
+        this.projectsByTechnology = groupByTag(this.projects, ProjectDto::getTechnologies);
+
+        this.skills = sorted(skills, SKILL_ORDER);
+        this.skillPageOrder = sorted(skills, SKILL_PAGE_ORDER);
+        this.skillsById = byId(this.skills, SkillDto::getId);
+        this.skillsByCategory = Map.copyOf(this.skills.stream()
+                .filter(skill -> skill.getCategory() != null)
+                .collect(Collectors.groupingBy(SkillDto::getCategory,
+                        Collectors.collectingAndThen(Collectors.toList(), List::copyOf))));
+
+        this.experiences = sorted(experiences, EXPERIENCE_ORDER);
+        this.currentExperiences = this.experiences.stream().filter(ExperienceDto::isCurrent).toList();
+        this.experiencesById = byId(this.experiences, ExperienceDto::getId);
+
+        this.profilesByUsername = Map.copyOf(profiles.stream()
+                .filter(profile -> profile.getUsername() != null)
+                .collect(Collectors.toMap(UserProfileDto::getUsername, Function.identity(), (a, b) -> b)));
+    }
+
+    public static PortfolioSnapshot of(Collection<ProjectDto> projects, Collection<SkillDto> skills,
+                                       Collection<ExperienceDto> experiences, Collection<UserProfileDto> profiles) {
+        return new PortfolioSnapshot(projects, skills, experiences, profiles, LocalDateTime.now());
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    // Projects
+
+    public List<ProjectDto> projects() {
+        return projects;
+    }
+
+    public List<ProjectDto> featuredProjects() {
+        return featuredProjects;
+    }
+
+    public List<ProjectDto> projectsByCategory(String category) {
+        return projectsByCategory.getOrDefault(category, List.of());
+    }
+
+    public List<ProjectDto> projectsByTechnology(String technology) {
+        return projectsByTechnology.getOrDefault(technology, List.of());
+    }
+
+    public ProjectDto project(Long id) {
+        return projectsById.get(id);
+    }
+
+    public CursorPage<ProjectDto> projectPage(PageCursor after, int pageSize) {
+        return page(projectPageOrder, PROJECT_PAGE_ORDER, after, pageSize,
+                cursor -> ProjectDto.builder().updatedAt(cursor.key()).id(cursor.id()).build(),
+                last -> new PageCursor(last.getUpdatedAt(), last.getId()));
+    }
+
+    // Skills
+
+    public List<SkillDto> skills() {
+        return skills;
+    }
+
+    public List<SkillDto> skillsByCategory(String category) {
+        return skillsByCategory.getOrDefault(category, List.of());
+    }
+
+    public List<SkillDto> skillsByProficiencyLevel(Integer level) {
+        return skills.stream()
+                .filter(skill -> skill.getProficiencyLevel() != null && skill.getProficiencyLevel() >= level)
+                .toList();
+    }
+
+    public SkillDto skill(Long id) {
+        return skillsById.get(id);
+    }
+
+    public CursorPage<SkillDto> skillPage(PageCursor after, int pageSize) {
+        return page(skillPageOrder, SKILL_PAGE_ORDER, after, pageSize,
+                cursor -> SkillDto.builder().updatedAt(cursor.key()).id(cursor.id()).build(),
+                last -> new PageCursor(last.getUpdatedAt(), last.getId()));
+    }
+
+    // Experiences
+
+    public List<ExperienceDto> experiences() {
+        return experiences;
+    }
+
+    public List<ExperienceDto> currentExperiences() {
+        return currentExperiences;
+    }
+
+    public ExperienceDto experience(Long id) {
+        return experiencesById.get(id);
+    }
+
+    public CursorPage<ExperienceDto> experiencePage(PageCursor after, int pageSize) {
+        return page(experiences, EXPERIENCE_ORDER, after, pageSize,
+                cursor -> ExperienceDto.builder().startDate(cursor.key()).id(cursor.id()).build(),
+                last -> new PageCursor(last.getStartDate(), last.getId()));
+    }
+
+    // Profiles
+
+    public UserProfileDto profile(String username) {
+        return profilesByUsername.get(username);
+    }
+
+    public Collection<UserProfileDto> profiles() {
+        return profilesByUsername.values();
+    }
+
+    // Copy-on-write updates
+
+    public PortfolioSnapshot withProject(ProjectDto project) {
+        return new PortfolioSnapshot(replace(projects, project, ProjectDto::getId), skills, experiences,
+                profilesByUsername.values(), builtAt);
+    }
+
+    public PortfolioSnapshot withoutProject(Long id) {
+        return new PortfolioSnapshot(remove(projects, id, ProjectDto::getId), skills, experiences,
+                profilesByUsername.values(), builtAt);
+    }
+
+    public PortfolioSnapshot withSkill(SkillDto skill) {
+        return new PortfolioSnapshot(projects, replace(skills, skill, SkillDto::getId), experiences,
+                profilesByUsername.values(), builtAt);
+    }
+
+    public PortfolioSnapshot withoutSkill(Long id) {
+        return new PortfolioSnapshot(projects, remove(skills, id, SkillDto::getId), experiences,
+                profilesByUsername.values(), builtAt);
+    }
+
+    public PortfolioSnapshot withExperience(ExperienceDto experience) {
+        return new PortfolioSnapshot(projects, skills, replace(experiences, experience, ExperienceDto::getId),
+                profilesByUsername.values(), builtAt);
+    }
+
+    public PortfolioSnapshot withoutExperience(Long id) {
+        return new PortfolioSnapshot(projects, skills, remove(experiences, id, ExperienceDto::getId),
+                profilesByUsername.values(), builtAt);
+    }
+
+    public PortfolioSnapshot withProfile(UserProfileDto profile) {
+        return new PortfolioSnapshot(projects, skills, experiences,
+                replace(profilesByUsername.values(), profile, UserProfileDto::getId), builtAt);
+    }
+
+    /**
+     * Keyset page over a list already in page order: the page starts right after the
+     * cursor's position, found by binary search on a probe built from the cursor.
+     */
+    private static <T> CursorPage<T> page(List<T> ordered, Comparator<T> order, PageCursor after, int pageSize,
+                                          Function<PageCursor, T> probe, Function<T, PageCursor> cursorOf) {
+        int from = 0;
+        if (after != null) {
+            int index = Collections.binarySearch(ordered, probe.apply(after), order);
+            from = index >= 0 ? index + 1 : -index - 1;
+        }
+        int to = Math.min(ordered.size(), from + pageSize);
+        List<T> items = new ArrayList<>(ordered.subList(from, to));
+        String nextCursor = to < ordered.size() && !items.isEmpty()
+                ? cursorOf.apply(items.get(items.size() - 1)).encode()
+                : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    private static <T> List<T> sorted(Collection<T> values, Comparator<T> order) {
+        List<T> sorted = new ArrayList<>(values);
+        sorted.sort(order);
+        return Collections.unmodifiableList(sorted);
+    }
+
+    private static <T> Map<Long, T> byId(List<T> values, Function<T, Long> idOf) {
+        return Map.copyOf(values.stream().collect(Collectors.toMap(idOf, Function.identity())));
+    }
+
+    private static Map<String, List<ProjectDto>> groupByTag(List<ProjectDto> projects,
+                                                            Function<ProjectDto, Collection<String>> tagsOf) {
+        Map<String, List<ProjectDto>> grouped = new HashMap<>();
+        for (ProjectDto project : projects) {
+            if (tagsOf.apply(project) != null) {
+                for (String tag : tagsOf.apply(project)) {
+                    grouped.computeIfAbsent(tag, key -> new ArrayList<>()).add(project);
+                }
+            }
+        }
+        grouped.replaceAll((tag, list) -> List.copyOf(list));
+        return Map.copyOf(grouped);
+    }
+
+    private static <T> List<T> replace(Collection<T> values, T replacement, Function<T, Long> idOf) {
+        List<T> replaced = remove(values, idOf.apply(replacement), idOf);
+        replaced.add(replacement);
+        return replaced;
+    }
+
+    private static <T> List<T> remove(Collection<T> values, Long id, Function<T, Long> idOf) {
+        List<T> remaining = new ArrayList<>(values.size() + 1);
+        for (T value : values) {
+            if (!id.equals(idOf.apply(value))) {
+                remaining.add(value);
+            }
+        }
+        return remaining;
+    }
+}
@@ -1,16 +1,32 @@
 package com.portifolio.portfolio_service.service;
 
+import com.portifolio.portfolio_service.cache.PortfolioCacheMaintainer;
+import com.portifolio.portfolio_service.dto.CursorPage;
+import com.portifolio.portfolio_service.dto.PageCursor;
 import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.ProjectSearchResultDto;
+import com.portifolio.portfolio_service.dto.TagNames;
 import com.portifolio.portfolio_service.model.Project;
+import com.portifolio.portfolio_service.model.Tag;
+import com.portifolio.portfolio_service.repository.CollectionFetchStrategy;
+import com.portifolio.portfolio_service.repository.DtoProjectionRepository;
 import com.portifolio.portfolio_service.repository.ProjectRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,35 +34,137 @@ import java.util.stream.Collectors;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final DtoProjectionRepository projections;
+    private final PortfolioCacheMaintainer cacheMaintainer;
+    private final PortfolioReadModel readModel;
+    private final TagDictionary tagDictionary;
+    private final ProjectTagIndex tagIndex;
 
-    @Cacheable("projects")
+    @Value("${portfolio.persistence.collection-fetch:SUBSELECT}")
+    private CollectionFetchStrategy collectionFetch;
+
+    @Cacheable(value = "projects", sync = true)
+    @Transactional(readOnly = true)
     public List<ProjectDto> getAllProjects() {
-        return projectRepository.findAllWithCollections().stream()
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            return snapshot.projects();
+        }
+        return loadAllProjects();
+    }
+
+    List<ProjectDto> loadAllProjects() {
+        if (collectionFetch == CollectionFetchStrategy.PROJECTION) {
+            return projections.findAllProjects();
+        }
+        List<Project> projects = collectionFetch == CollectionFetchStrategy.JOIN
+                ? projectRepository.findAllWithCollections()
+                : projectRepository.findAllLazy();
+        return projects.stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
-    @Cacheable("featuredProjects")
+    @Cacheable(value = "featuredProjects", sync = true)
+    @Transactional(readOnly = true)
     public List<ProjectDto> getFeaturedProjects() {
-        return projectRepository.findByFeaturedTrue().stream()
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            return snapshot.featuredProjects();
+        }
+        if (collectionFetch == CollectionFetchStrategy.PROJECTION) {
+            return projections.findFeaturedProjects();
+        }
+        List<Project> projects = collectionFetch == CollectionFetchStrategy.JOIN
+                ? projectRepository.findByFeaturedTrue()
+                : projectRepository.findFeaturedLazy();
+        return projects.stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
     public List<ProjectDto> getProjectsByCategory(String category) {
-        return projectRepository.findByCategory(category).stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            return snapshot.projectsByCategory(category);
+        }
+        return tagIndex.byCategory(category);
     }
 
     public List<ProjectDto> getProjectsByTechnology(String technology) {
-        return projectRepository.findByTechnology(technology).stream()
-                .map(this::mapToDto)
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            return snapshot.projectsByTechnology(technology);
+        }
+        return tagIndex.byTechnology(technology);
+    }
+
+    /**
+     * Faceted search over the tag index: projects carrying all ({@code ALL}) or any
+     * ({@code ANY}) of the given categories and technologies, with per-tag counts.
+     */
+    public ProjectSearchResultDto searchProjects(List<String> categories, List<String> technologies,
+                                                 ProjectTagIndex.Match match) {
+        return tagIndex.search(categories, technologies, match);
+    }
+
+    /**
+     * Keyset page of projects, newest update first. Only the ids of the page are read from
+     * the (updatedAt, id) index; the page rows and their collections are then loaded by id.
+     */
+    @Cacheable(value = "projectPages", key = "#limit + ':' + #cursor", sync = true)
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectDto> getProjectPage(String cursor, int limit) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = PageCursor.clampLimit(limit);
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            return snapshot.projectPage(after, pageSize);
+        }
+        Pageable window = PageRequest.ofSize(pageSize + 1);
+
+        List<Long> ids = after == null
+                ? projectRepository.findPageIds(window)
+                : projectRepository.findPageIdsAfter(after.key(), after.id(), window);
+        boolean hasMore = ids.size() > pageSize;
+        List<Long> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+
+        List<ProjectDto> pageProjects = collectionFetch == CollectionFetchStrategy.PROJECTION
+                ? projections.findProjectsByIds(pageIds)
+                : projectRepository.findAllById(pageIds).stream().map(this::mapToDto).toList();
+        Map<Long, ProjectDto> projectsById = pageProjects.stream()
+                .collect(Collectors.toMap(ProjectDto::getId, Function.identity()));
+        List<ProjectDto> items = pageIds.stream()
+                .map(projectsById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasMore && !items.isEmpty()) {
+            ProjectDto last = items.get(items.size() - 1);
+            nextCursor = new PageCursor(last.getUpdatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(items, nextCursor);
     }
 
-    @Cacheable(value = "project", key = "#id")
+    @Cacheable(value = "project", key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public ProjectDto getProjectById(Long id) {
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            ProjectDto project = snapshot.project(id);
+            if (project == null) {
+                throw new EntityNotFoundException("Project not found with id: " + id);
+            }
+            return project;
+        }
+        if (collectionFetch == CollectionFetchStrategy.PROJECTION) {
+            ProjectDto project = projections.findProjectById(id);
+            if (project == null) {
+                throw new EntityNotFoundException("Project not found with id: " + id);
+            }
+            return project;
+        }
         Project project = projectRepository.findByIdWithCollections(id);
         if (project == null) {
             throw new EntityNotFoundException("Project not found with id: " + id);
@@ -55,31 +173,33 @@ public class ProjectService {
     }
 
     @Transactional
-    @CacheEvict(value = {"projects", "featuredProjects"}, allEntries = true)
     public ProjectDto createProject(ProjectDto projectDto) {
-        Project project = mapToEntity(projectDto);
+        Project project = mapToEntity(projectDto, tagDictionary::resolve);
         Project savedProject = projectRepository.save(project);
-        return mapToDto(savedProject);
+        ProjectDto createdProject = mapToDto(savedProject);
+        cacheMaintainer.projectSaved(createdProject, savedProject.getVersion());
+        return createdProject;
     }
 
     @Transactional
-    @CacheEvict(value = {"projects", "featuredProjects", "project"}, allEntries = true)
     public ProjectDto updateProject(Long id, ProjectDto projectDto) {
         Project existingProject = projectRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + id));
 
         updateEntityFromDto(existingProject, projectDto);
-        Project updatedProject = projectRepository.save(existingProject);
-        return mapToDto(updatedProject);
+        // Flush so @PreUpdate has stamped updatedAt before the DTO goes into the caches
+        Project updatedProject = projectRepository.saveAndFlush(existingProject);
+        ProjectDto updatedProjectDto = mapToDto(updatedProject);
+        cacheMaintainer.projectSaved(updatedProjectDto, updatedProject.getVersion());
+        return updatedProjectDto;
     }
 
     @Transactional
-    @CacheEvict(value = {"projects", "featuredProjects", "project"}, allEntries = true)
     public void deleteProject(Long id) {
-        if (!projectRepository.existsById(id)) {
-            throw new EntityNotFoundException("Project not found with id: " + id);
-        }
-        projectRepository.deleteById(id);
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + id));
+        projectRepository.delete(project);
+        cacheMaintainer.projectDeleted(id, project.getVersion() + 1);
     }
 
     private ProjectDto mapToDto(Project project) {
@@ -94,14 +214,17 @@ public class ProjectService {
                 .startDate(project.getStartDate())
                 .endDate(project.getEndDate())
                 .featured(project.isFeatured())
-                .technologies(project.getTechnologies())
-                .categories(project.getCategories())
+                .technologies(tagNames(project.getTechnologyNames(), project.getTechnologies()))
+                .categories(tagNames(project.getCategoryNames(), project.getCategories()))
                 .createdAt(project.getCreatedAt())
                 .updatedAt(project.getUpdatedAt())
                 .build();
     }
 
-    private Project mapToEntity(ProjectDto projectDto) {
+    /**
+     * @param tags resolves tag names to dictionary entries (see {@link TagDictionary})
+     */
+    Project mapToEntity(ProjectDto projectDto, Function<Collection<String>, Set<Tag>> tags) {
         return Project.builder()
                 .id(projectDto.getId())
                 .title(projectDto.getTitle())
@@ -113,8 +236,8 @@ public class ProjectService {
                 .startDate(projectDto.getStartDate())
                 .endDate(projectDto.getEndDate())
                 .featured(projectDto.isFeatured())
-                .technologies(projectDto.getTechnologies())
-                .categories(projectDto.getCategories())
+                .technologies(tags.apply(projectDto.getTechnologies()))
+                .categories(tags.apply(projectDto.getCategories()))
                 .build();
     }
 
@@ -128,7 +251,15 @@ public class ProjectService {
         project.setStartDate(projectDto.getStartDate());
         project.setEndDate(projectDto.getEndDate());
         project.setFeatured(projectDto.isFeatured());
-        project.setTechnologies(projectDto.getTechnologies());
-        project.setCategories(projectDto.getCategories());
+        project.setTechnologies(tagDictionary.resolve(projectDto.getTechnologies()));
+        project.setCategories(tagDictionary.resolve(projectDto.getCategories()));
+        project.syncTagArrays();
+    }
+
+    // ARRAY reads the denormalized column unless the row predates the backfill
+    private Set<String> tagNames(String[] names, Set<Tag> tags) {
+        return collectionFetch == CollectionFetchStrategy.ARRAY && names != null
+                ? TagNames.intern(Arrays.asList(names))
+                : TagDictionary.names(tags);
     }
 }
@@ -0,0 +1,301 @@
+package com.portifolio.portfolio_service.service;
+
+import com.portifolio.portfolio_service.cache.PortfolioAggregate;
+import com.portifolio.portfolio_service.cache.PortfolioChangeEvent;
+import com.portifolio.portfolio_service.config.ReadWriteRoutingDataSource;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.ProjectSearchResultDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * In-memory inverted index from project categories and technologies to projects.
+ *
+ * <p>Every project gets a slot; each tag maps to a {@link BitSet} of the slots carrying it, so
+ * multi-tag AND/OR filters are bitwise operations and a facet count is the cardinality of a
+ * tag's bits intersected with the result. Slots are handed out in id order on build and new
+ * projects are appended, so iterating a result in slot order returns projects by id, like the
+ * repository queries. A deleted project's slot stays reserved for it until deleted slots outnumber
+ * live ones, at which point the state is compacted.</p>
+ *
+ * <p>The index is built from the database on first use and then maintained incrementally from
+ * committed changes (see {@link #apply}). A build fills its state in a single pass; each later change
+ * produces a new immutable copy that is published with a single volatile write; readers never lock.</p>
+ */
+@Component
+@Slf4j
+public class ProjectTagIndex {
+
+    public enum Match {
+        ALL,
+        ANY
+    }
+
+    private final ObjectProvider<ProjectService> projectService;
+    private final TransactionTemplate readTransaction;
+    private volatile State state;
+    // Not synchronized: a rebuild blocks on the database, which would pin a virtual thread's carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public ProjectTagIndex(ObjectProvider<ProjectService> projectService, PlatformTransactionManager transactionManager) {
+        this.projectService = projectService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        // Own transaction, so a rebuild never joins (and reads through) a caller's transaction
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    public List<ProjectDto> byCategory(String category) {
+        State current = state();
+        return current.projects(current.categories.getOrDefault(category, new BitSet()));
+    }
+
+    public List<ProjectDto> byTechnology(String technology) {
+        State current = state();
+        return current.projects(current.technologies.getOrDefault(technology, new BitSet()));
+    }
+
+    /**
+     * Filters projects by categories and technologies. With {@link Match#ALL} a project must
+     * carry every requested tag, with {@link Match#ANY} at least one; no tags selects all projects.
+     * Facets count, for every tag, the matching projects that carry it.
+     */
+    public ProjectSearchResultDto search(Collection<String> categories, Collection<String> technologies, Match match) {
+        State current = state();
+        List<BitSet> selected = new ArrayList<>();
+        categories.forEach(tag -> selected.add(current.categories.getOrDefault(tag, new BitSet())));
+        technologies.forEach(tag -> selected.add(current.technologies.getOrDefault(tag, new BitSet())));
+
+        BitSet result;
+        if (selected.isEmpty()) {
+            result = (BitSet) current.live.clone();
+        } else if (match == Match.ALL) {
+            result = (BitSet) selected.get(0).clone();
+            selected.subList(1, selected.size()).forEach(result::and);
+        } else {
+            result = new BitSet();
+            selected.forEach(result::or);
+        }
+
+        return ProjectSearchResultDto.builder()
+                .items(current.projects(result))
+                .total(result.cardinality())
+                .categoryFacets(facets(current.categories, result))
+                .technologyFacets(facets(current.technologies, result))
+                .build();
+    }
+
+    /**
+     * Applies a committed project change; other aggregates are ignored. Called by the cache
+     * maintainer for local writes and for changes received from other replicas.
+     */
+    public void apply(PortfolioChangeEvent event) {
+        lock.lock();
+        try {
+            State current = state;
+            if (current == null || event.aggregate() != PortfolioAggregate.PROJECTS) {
+                // Not built yet: the first read loads the committed data anyway
+                return;
+            }
+            state = switch (event.type()) {
+                case SAVED -> current.with((ProjectDto) event.payload()).compacted();
+                case DELETED -> current.without(event.id()).compacted();
+                // Bulk change: rebuilt from the database on the next read
+                case RELOADED -> null;
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void rebuild() {
+        lock.lock();
+        try {
+            // From the primary: the index serves every reader, so a lagging replica would hide recent writes
+            List<ProjectDto> projects = ReadWriteRoutingDataSource.onPrimary(() ->
+                    readTransaction.execute(status -> projectService.getObject().loadAllProjects()));
+            state = State.of(projects == null ? List.of() : projects);
+            log.info("Project tag index built for {} projects", state.live.cardinality());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private State state() {
+        State current = state;
+        if (current == null) {
+            lock.lock();
+            try {
+                if (state == null) {
+                    rebuild();
+                }
+                current = state;
+            } finally {
+                lock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private static Map<String, Integer> facets(Map<String, BitSet> index, BitSet result) {
+        List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+        index.forEach((tag, slots) -> {
+            BitSet matching = (BitSet) slots.clone();
+            matching.and(result);
+            int count = matching.cardinality();
+            if (count > 0) {
+                counts.add(Map.entry(tag, count));
+            }
+        });
+        counts.sort(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Integer> facets = new LinkedHashMap<>();
+        counts.forEach(entry -> facets.put(entry.getKey(), entry.getValue()));
+        return facets;
+    }
+
+    /**
+     * Immutable index state. Bit sets are copied, never modified, once a state is published.
+     */
+    private static final class State {
+        // Below this many deleted slots compacting would cost more than the space it reclaims
+        private static final int MIN_DEAD_SLOTS = 64;
+
+        private final ProjectDto[] slots;
+        private final Map<Long, Integer> slotById;
+        private final BitSet live;
+        private final Map<String, BitSet> categories;
+        private final Map<String, BitSet> technologies;
+
+        private State(ProjectDto[] slots, Map<Long, Integer> slotById, BitSet live,
+                      Map<String, BitSet> categories, Map<String, BitSet> technologies) {
+            this.slots = slots;
+            this.slotById = slotById;
+            this.live = live;
+            this.categories = categories;
+            this.technologies = technologies;
+        }
+
+        /**
+         * Builds a state in one pass: slots, id map and tag bit sets are filled in place and only
+         * published once complete, so a full build is linear in the number of projects.
+         */
+        static State of(Collection<ProjectDto> projects) {
+            ProjectDto[] slots = projects.toArray(ProjectDto[]::new);
+            Arrays.sort(slots, Comparator.comparing(ProjectDto::getId));
+            Map<Long, Integer> slotById = new HashMap<>(slots.length * 4 / 3 + 1);
+            Map<String, BitSet> categories = new HashMap<>();
+            Map<String, BitSet> technologies = new HashMap<>();
+            for (int slot = 0; slot < slots.length; slot++) {
+                ProjectDto project = slots[slot];
+                slotById.put(project.getId(), slot);
+                index(categories, project.getCategories(), slot);
+                index(technologies, project.getTechnologies(), slot);
+            }
+            BitSet live = new BitSet(slots.length);
+            live.set(0, slots.length);
+            return new State(slots, slotById, live, categories, technologies);
+        }
+
+        private static void index(Map<String, BitSet> index, Set<String> tags, int slot) {
+            if (tags != null) {
+                tags.forEach(tag -> index.computeIfAbsent(tag, key -> new BitSet()).set(slot));
+            }
+        }
+
+        /**
+         * Deleted slots stay reserved until they outnumber the live ones; then the live projects
+         * are packed into a fresh state, again in id order.
+         */
+        State compacted() {
+            int dead = slots.length - live.cardinality();
+            if (dead < MIN_DEAD_SLOTS || dead < slots.length / 2) {
+                return this;
+            }
+            return of(projects(live));
+        }
+
+        List<ProjectDto> projects(BitSet selected) {
+            List<ProjectDto> projects = new ArrayList<>(selected.cardinality());
+            for (int slot = selected.nextSetBit(0); slot >= 0; slot = selected.nextSetBit(slot + 1)) {
+                projects.add(slots[slot]);
+            }
+            return projects;
+        }
+
+        State with(ProjectDto project) {
+            Integer existing = slotById.get(project.getId());
+            State base = existing != null ? without(project.getId()) : this;
+            int slot = existing != null ? existing : slots.length;
+
+            ProjectDto[] newSlots = Arrays.copyOf(base.slots, Math.max(base.slots.length, slot + 1));
+            newSlots[slot] = project;
+            Map<Long, Integer> newSlotById = new HashMap<>(base.slotById);
+            newSlotById.put(project.getId(), slot);
+            BitSet newLive = (BitSet) base.live.clone();
+            newLive.set(slot);
+            return new State(newSlots, newSlotById, newLive,
+                    set(base.categories, project.getCategories(), slot),
+                    set(base.technologies, project.getTechnologies(), slot));
+        }
+
+        State without(Long id) {
+            Integer slot = slotById.get(id);
+            // Unknown, or already deleted (the slot stays reserved, see below)
+            if (slot == null || slots[slot] == null) {
+                return this;
+            }
+            ProjectDto removed = slots[slot];
+            ProjectDto[] newSlots = slots.clone();
+            newSlots[slot] = null;
+            BitSet newLive = (BitSet) live.clone();
+            newLive.clear(slot);
+            // The slot stays reserved for the id, so a re-save keeps its position until compacted()
+            return new State(newSlots, slotById, newLive,
+                    clear(categories, removed.getCategories(), slot),
+                    clear(technologies, removed.getTechnologies(), slot));
+        }
+
+        private static Map<String, BitSet> set(Map<String, BitSet> index, Set<String> tags, int slot) {
+            return update(index, tags, slot, BitSet::set);
+        }
+
+        private static Map<String, BitSet> clear(Map<String, BitSet> index, Set<String> tags, int slot) {
+            return update(index, tags, slot, BitSet::clear);
+        }
+
+        private static Map<String, BitSet> update(Map<String, BitSet> index, Set<String> tags, int slot,
+                                                  ObjIntConsumer<BitSet> change) {
+            if (tags == null || tags.isEmpty()) {
+                return index;
+            }
+            Map<String, BitSet> updated = new HashMap<>(index);
+            for (String tag : tags) {
+                BitSet slots = (BitSet) updated.getOrDefault(tag, new BitSet()).clone();
+                change.accept(slots, slot);
+                if (slots.isEmpty()) {
+                    updated.remove(tag);
+                } else {
+                    updated.put(tag, slots);
+                }
+            }
+            return updated;
+        }
+    }
+}
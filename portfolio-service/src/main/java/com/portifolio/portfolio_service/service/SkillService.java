@@ -1,12 +1,17 @@
 package com.portifolio.portfolio_service.service;
 
+import com.portifolio.portfolio_service.cache.PortfolioCacheMaintainer;
+import com.portifolio.portfolio_service.dto.CursorPage;
+import com.portifolio.portfolio_service.dto.PageCursor;
 import com.portifolio.portfolio_service.dto.SkillDto;
 import com.portifolio.portfolio_service.model.Skill;
 import com.portifolio.portfolio_service.repository.SkillRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,59 +23,119 @@ import java.util.stream.Collectors;
 public class SkillService {
 
     private final SkillRepository skillRepository;
+    private final PortfolioCacheMaintainer cacheMaintainer;
+    private final PortfolioReadModel readModel;
 
-    @Cacheable("skills")
+    @Cacheable(value = "skills", sync = true)
+    @Transactional(readOnly = true)
     public List<SkillDto> getAllSkills() {
-        return skillRepository.findAll().stream()
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            return snapshot.skills();
+        }
+        return loadAllSkills();
+    }
+
+    List<SkillDto> loadAllSkills() {
+        return skillRepository.findAll(Sort.by("id")).stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<SkillDto> getSkillsByCategory(String category) {
-        return skillRepository.findByCategory(category).stream()
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            return snapshot.skillsByCategory(category);
+        }
+        return skillRepository.findByCategoryOrderByIdAsc(category).stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<SkillDto> getSkillsByProficiencyLevel(Integer level) {
-        return skillRepository.findByProficiencyLevelGreaterThanEqual(level).stream()
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            return snapshot.skillsByProficiencyLevel(level);
+        }
+        return skillRepository.findByProficiencyLevelGreaterThanEqualOrderByIdAsc(level).stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
-    @Cacheable(value = "skill", key = "#id")
+    /**
+     * Keyset page of skills, newest update first, read straight from the (updatedAt, id) index.
+     */
+    @Cacheable(value = "skillPages", key = "#limit + ':' + #cursor", sync = true)
+    @Transactional(readOnly = true)
+    public CursorPage<SkillDto> getSkillPage(String cursor, int limit) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = PageCursor.clampLimit(limit);
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            return snapshot.skillPage(after, pageSize);
+        }
+        Pageable window = PageRequest.ofSize(pageSize + 1);
+
+        List<Skill> skills = after == null
+                ? skillRepository.findPage(window)
+                : skillRepository.findPageAfter(after.key(), after.id(), window);
+        boolean hasMore = skills.size() > pageSize;
+        List<Skill> page = hasMore ? skills.subList(0, pageSize) : skills;
+
+        String nextCursor = null;
+        if (hasMore && !page.isEmpty()) {
+            Skill last = page.get(page.size() - 1);
+            nextCursor = new PageCursor(last.getUpdatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(page.stream().map(this::mapToDto).collect(Collectors.toList()), nextCursor);
+    }
+
+    @Cacheable(value = "skill", key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public SkillDto getSkillById(Long id) {
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            SkillDto skill = snapshot.skill(id);
+            if (skill == null) {
+                throw new EntityNotFoundException("Skill not found with id: " + id);
+            }
+            return skill;
+        }
         Skill skill = skillRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Skill not found with id: " + id));
         return mapToDto(skill);
     }
 
     @Transactional
-    @CacheEvict(value = {"skills"}, allEntries = true)
     public SkillDto createSkill(SkillDto skillDto) {
         Skill skill = mapToEntity(skillDto);
         Skill savedSkill = skillRepository.save(skill);
-        return mapToDto(savedSkill);
+        SkillDto createdSkill = mapToDto(savedSkill);
+        cacheMaintainer.skillSaved(createdSkill, savedSkill.getVersion());
+        return createdSkill;
     }
 
     @Transactional
-    @CacheEvict(value = {"skills", "skill"}, allEntries = true)
     public SkillDto updateSkill(Long id, SkillDto skillDto) {
         Skill existingSkill = skillRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Skill not found with id: " + id));
 
         updateEntityFromDto(existingSkill, skillDto);
-        Skill updatedSkill = skillRepository.save(existingSkill);
-        return mapToDto(updatedSkill);
+        // Flush so @PreUpdate has stamped updatedAt before the DTO goes into the caches
+        Skill updatedSkill = skillRepository.saveAndFlush(existingSkill);
+        SkillDto updatedSkillDto = mapToDto(updatedSkill);
+        cacheMaintainer.skillSaved(updatedSkillDto, updatedSkill.getVersion());
+        return updatedSkillDto;
     }
 
     @Transactional
-    @CacheEvict(value = {"skills", "skill"}, allEntries = true)
     public void deleteSkill(Long id) {
-        if (!skillRepository.existsById(id)) {
-            throw new EntityNotFoundException("Skill not found with id: " + id);
-        }
-        skillRepository.deleteById(id);
+        Skill skill = skillRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Skill not found with id: " + id));
+        skillRepository.delete(skill);
+        cacheMaintainer.skillDeleted(id, skill.getVersion() + 1);
     }
 
     private SkillDto mapToDto(Skill skill) {
@@ -81,10 +146,12 @@ public class SkillService {
                 .proficiencyLevel(skill.getProficiencyLevel())
                 .iconUrl(skill.getIconUrl())
                 .yearsOfExperience(skill.getYearsOfExperience())
+                .createdAt(skill.getCreatedAt())
+                .updatedAt(skill.getUpdatedAt())
                 .build();
     }
 
-    private Skill mapToEntity(SkillDto skillDto) {
+    Skill mapToEntity(SkillDto skillDto) {
         return Skill.builder()
                 .id(skillDto.getId())
                 .name(skillDto.getName())
@@ -0,0 +1,84 @@
+package com.portifolio.portfolio_service.service;
+
+import com.portifolio.portfolio_service.dto.TagNames;
+import com.portifolio.portfolio_service.model.Tag;
+import com.portifolio.portfolio_service.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maps tag strings from the API to rows of the {@code tags} dictionary and back. Runs inside
+ * the caller's write transaction. Missing tags are inserted with {@code ON CONFLICT DO NOTHING}
+ * and then selected, so two admin writes introducing the same new tag both end up with the
+ * one row (the second insert waits for the first transaction and skips the name) instead of
+ * one of them failing on the unique name constraint.
+ */
+@Service
+@RequiredArgsConstructor
+public class TagDictionary {
+
+    private final TagRepository tagRepository;
+
+    /**
+     * @return the dictionary entries for the given names, creating the missing ones
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Set<Tag> resolve(Collection<String> names) {
+        Set<String> wanted = TagNames.intern(names).stream()
+                .filter(name -> !name.isBlank())
+                .collect(Collectors.toSet());
+        if (wanted.isEmpty()) {
+            return new HashSet<>();
+        }
+        Map<String, Tag> existing = tagRepository.findByNameIn(wanted).stream()
+                .collect(Collectors.toMap(Tag::getName, Function.identity()));
+        List<String> missing = wanted.stream()
+                .filter(name -> !existing.containsKey(name))
+                .toList();
+        Set<Tag> tags = new HashSet<>(existing.values());
+        if (!missing.isEmpty()) {
+            tagRepository.insertMissing(missing.toArray(String[]::new));
+            tags.addAll(tagRepository.findByNameIn(missing));
+        }
+        return tags;
+    }
+
+    /**
+     * Resolves every name used by a batch of entities with one lookup, creating the missing
+     * tags, and returns a resolver over the result for mapping the batch.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Function<Collection<String>, Set<Tag>> resolver(Collection<String> names) {
+        Map<String, Tag> tags = resolve(names).stream()
+                .collect(Collectors.toMap(Tag::getName, Function.identity()));
+        return wanted -> {
+            Set<Tag> resolved = new HashSet<>();
+            if (wanted != null) {
+                for (String name : wanted) {
+                    Tag tag = name != null ? tags.get(name) : null;
+                    if (tag != null) {
+                        resolved.add(tag);
+                    }
+                }
+            }
+            return resolved;
+        };
+    }
+
+    /**
+     * @return the sorted, interned names of the given tags, as exposed in the DTOs
+     */
+    public static Set<String> names(Collection<Tag> tags) {
+        return TagNames.intern(tags == null ? List.of() : tags.stream().map(Tag::getName).toList());
+    }
+}
@@ -0,0 +1,334 @@
+package com.portifolio.portfolio_service.service;
+
+import com.portifolio.portfolio_service.cache.PortfolioAggregate;
+import com.portifolio.portfolio_service.cache.PortfolioChangeEvent;
+import com.portifolio.portfolio_service.config.ReadWriteRoutingDataSource;
+import com.portifolio.portfolio_service.dto.ExperienceDto;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.SkillDto;
+import com.portifolio.portfolio_service.dto.TagSuggestionDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Typeahead over the tags used in the portfolio: technologies (projects and experiences),
+ * project categories and skill names.
+ *
+ * <p>Each kind of tag is held as an immutable {@link Dictionary}: the distinct tags sorted by
+ * their lower-cased form, next to how many entities use them. A prefix lookup is a binary
+ * search for the first candidate plus a scan of the contiguous run of matches, keeping the
+ * most frequent ones in a bounded heap. Nothing touches the database after the first build.</p>
+ *
+ * <p>The tags of every entity are remembered so a committed change (see {@link #apply}) can
+ * diff that entity's old and new tags and adjust just those counts: changed entries are spliced
+ * into a copy of the sorted arrays, nothing is re-counted or re-sorted, and dictionaries of
+ * kinds the entity does not contribute to are kept as they are.</p>
+ */
+@Component
+@Slf4j
+public class TagSuggester {
+
+    public static final int MAX_LIMIT = 50;
+
+    // Dictionary order: lower-cased form, then the original spelling so case variants are stable
+    private static final Comparator<String> ORDER = Comparator
+            .comparing((String tag) -> tag.toLowerCase(Locale.ROOT))
+            .thenComparing(Comparator.naturalOrder());
+
+    // Most used first, then alphabetical
+    private static final Comparator<TagSuggestionDto> RANKING = Comparator
+            .comparingInt(TagSuggestionDto::getCount).reversed()
+            .thenComparing(TagSuggestionDto::getValue, String.CASE_INSENSITIVE_ORDER);
+
+    public enum Kind {
+        TECHNOLOGY,
+        CATEGORY,
+        SKILL
+    }
+
+    private final ObjectProvider<ProjectService> projectService;
+    private final ObjectProvider<SkillService> skillService;
+    private final ObjectProvider<ExperienceService> experienceService;
+    private final TransactionTemplate readTransaction;
+
+    // Tags contributed by each entity ("PROJECTS:42"), per kind; guarded by lock
+    private final Map<Kind, Map<String, Collection<String>>> sources = new EnumMap<>(Kind.class);
+    private volatile Map<Kind, Dictionary> dictionaries;
+    // Serializes updates and rebuilds; a lock so that a rebuild's queries do not pin virtual threads
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public TagSuggester(ObjectProvider<ProjectService> projectService,
+                        ObjectProvider<SkillService> skillService,
+                        ObjectProvider<ExperienceService> experienceService,
+                        PlatformTransactionManager transactionManager) {
+        this.projectService = projectService;
+        this.skillService = skillService;
+        this.experienceService = experienceService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        // Own transaction, so a rebuild never joins (and reads through) a caller's transaction
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Tags starting with {@code prefix} (case-insensitive), most used first. A null kind
+     * searches every kind; an empty prefix returns the most used tags.
+     */
+    public List<TagSuggestionDto> suggest(String prefix, Kind kind, int limit) {
+        Map<Kind, Dictionary> current = dictionaries();
+        String key = prefix == null ? "" : prefix.trim().toLowerCase(Locale.ROOT);
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        PriorityQueue<TagSuggestionDto> top = new PriorityQueue<>(size + 1, RANKING.reversed());
+        for (Kind candidate : kind != null ? List.of(kind) : List.of(Kind.values())) {
+            current.get(candidate).collect(key, candidate, size, top);
+        }
+        List<TagSuggestionDto> suggestions = new ArrayList<>(top);
+        suggestions.sort(RANKING);
+        return suggestions;
+    }
+
+    /**
+     * Applies a committed change to a project, skill or experience. Called by the cache
+     * maintainer for local writes and for changes received from other replicas.
+     */
+    public void apply(PortfolioChangeEvent event) {
+        lock.lock();
+        try {
+            if (dictionaries == null) {
+                // Not built yet: the first lookup loads the committed data anyway
+                return;
+            }
+            if (event.type() == PortfolioChangeEvent.Type.RELOADED) {
+                if (event.aggregate() != PortfolioAggregate.PROFILES) {
+                    // Bulk change: rebuilt from the database on the next lookup
+                    dictionaries = null;
+                }
+                return;
+            }
+            boolean saved = event.type() == PortfolioChangeEvent.Type.SAVED;
+            String source = event.key();
+            Map<Kind, Dictionary> updated = new EnumMap<>(dictionaries);
+            switch (event.aggregate()) {
+                case PROJECTS -> {
+                    ProjectDto project = saved ? (ProjectDto) event.payload() : null;
+                    replace(updated, Kind.TECHNOLOGY, source, project != null ? project.getTechnologies() : null);
+                    replace(updated, Kind.CATEGORY, source, project != null ? project.getCategories() : null);
+                }
+                case EXPERIENCES -> {
+                    ExperienceDto experience = saved ? (ExperienceDto) event.payload() : null;
+                    replace(updated, Kind.TECHNOLOGY, source, experience != null ? experience.getTechnologies() : null);
+                }
+                case SKILLS -> {
+                    SkillDto skill = saved ? (SkillDto) event.payload() : null;
+                    replace(updated, Kind.SKILL, source,
+                            skill != null && skill.getName() != null ? Set.of(skill.getName()) : null);
+                }
+                default -> {
+                    return;
+                }
+            }
+            dictionaries = updated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void rebuild() {
+        lock.lock();
+        try {
+            // From the primary: the dictionaries serve every reader, so a lagging replica would hide recent writes
+            ReadWriteRoutingDataSource.onPrimary(() -> readTransaction.execute(status -> {
+                sources.clear();
+                for (ProjectDto project : projectService.getObject().loadAllProjects()) {
+                    String source = PortfolioAggregate.PROJECTS + ":" + project.getId();
+                    sources(Kind.TECHNOLOGY).put(source, tags(project.getTechnologies()));
+                    sources(Kind.CATEGORY).put(source, tags(project.getCategories()));
+                }
+                for (ExperienceDto experience : experienceService.getObject().loadAllExperiences()) {
+                    String source = PortfolioAggregate.EXPERIENCES + ":" + experience.getId();
+                    sources(Kind.TECHNOLOGY).put(source, tags(experience.getTechnologies()));
+                }
+                for (SkillDto skill : skillService.getObject().loadAllSkills()) {
+                    String source = PortfolioAggregate.SKILLS + ":" + skill.getId();
+                    sources(Kind.SKILL).put(source, tags(skill.getName() != null ? Set.of(skill.getName()) : null));
+                }
+                return null;
+            }));
+            Map<Kind, Dictionary> built = new EnumMap<>(Kind.class);
+            for (Kind kind : Kind.values()) {
+                built.put(kind, Dictionary.of(sources(kind).values()));
+            }
+            dictionaries = built;
+            log.info("Tag suggestions built: {} technologies, {} categories, {} skills",
+                    built.get(Kind.TECHNOLOGY).size(), built.get(Kind.CATEGORY).size(), built.get(Kind.SKILL).size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<Kind, Dictionary> dictionaries() {
+        Map<Kind, Dictionary> current = dictionaries;
+        if (current == null) {
+            lock.lock();
+            try {
+                if (dictionaries == null) {
+                    rebuild();
+                }
+                current = dictionaries;
+            } finally {
+                lock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private void replace(Map<Kind, Dictionary> updated, Kind kind, String source, Collection<String> tags) {
+        Collection<String> previous = tags == null
+                ? sources(kind).remove(source)
+                : sources(kind).put(source, tags(tags));
+        Map<String, Integer> changes = changes(previous, sources(kind).get(source));
+        if (!changes.isEmpty()) {
+            updated.put(kind, updated.get(kind).with(changes));
+        }
+    }
+
+    /**
+     * Count adjustments for one entity whose tags went from {@code before} to {@code after}:
+     * -1 for every tag it dropped, +1 for every tag it added; tags it kept are left out.
+     */
+    static Map<String, Integer> changes(Collection<String> before, Collection<String> after) {
+        Map<String, Integer> changes = new HashMap<>();
+        if (before != null) {
+            before.forEach(tag -> changes.merge(tag, -1, Integer::sum));
+        }
+        if (after != null) {
+            after.forEach(tag -> changes.merge(tag, 1, Integer::sum));
+        }
+        changes.values().removeIf(delta -> delta == 0);
+        return changes;
+    }
+
+    private Map<String, Collection<String>> sources(Kind kind) {
+        return sources.computeIfAbsent(kind, k -> new HashMap<>());
+    }
+
+    private static Collection<String> tags(Collection<String> tags) {
+        return tags == null ? List.of() : tags.stream().filter(tag -> tag != null && !tag.isBlank()).toList();
+    }
+
+    /**
+     * Distinct tags sorted by lower-cased form, with parallel arrays of the original spelling
+     * and the number of entities using each.
+     */
+    private static final class Dictionary {
+        private final String[] keys;
+        private final String[] values;
+        private final int[] counts;
+
+        private Dictionary(String[] keys, String[] values, int[] counts) {
+            this.keys = keys;
+            this.values = values;
+            this.counts = counts;
+        }
+
+        static Dictionary of(Collection<Collection<String>> tagsBySource) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (Collection<String> tags : tagsBySource) {
+                for (String tag : tags) {
+                    frequencies.merge(tag, 1, Integer::sum);
+                }
+            }
+            String[] values = frequencies.keySet().toArray(String[]::new);
+            Arrays.sort(values, ORDER);
+            String[] keys = new String[values.length];
+            int[] counts = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                keys[i] = values[i].toLowerCase(Locale.ROOT);
+                counts[i] = frequencies.get(values[i]);
+            }
+            return new Dictionary(keys, values, counts);
+        }
+
+        /**
+         * A copy with the given count adjustments. Only the changed tags are looked up (they are
+         * sorted, so each search starts where the previous one ended); the runs in between are
+         * copied as they are, entries whose count drops to zero are left out and new tags are
+         * inserted in place.
+         */
+        Dictionary with(Map<String, Integer> changes) {
+            String[] changed = changes.keySet().toArray(String[]::new);
+            Arrays.sort(changed, ORDER);
+            String[] newKeys = new String[keys.length + changed.length];
+            String[] newValues = new String[newKeys.length];
+            int[] newCounts = new int[newKeys.length];
+            int size = 0;
+            int from = 0;
+            for (String tag : changed) {
+                int found = Arrays.binarySearch(values, from, values.length, tag, ORDER);
+                int at = found >= 0 ? found : -found - 1;
+                System.arraycopy(keys, from, newKeys, size, at - from);
+                System.arraycopy(values, from, newValues, size, at - from);
+                System.arraycopy(counts, from, newCounts, size, at - from);
+                size += at - from;
+                int count = (found >= 0 ? counts[found] : 0) + changes.get(tag);
+                if (count > 0) {
+                    newKeys[size] = found >= 0 ? keys[found] : tag.toLowerCase(Locale.ROOT);
+                    newValues[size] = tag;
+                    newCounts[size] = count;
+                    size++;
+                }
+                from = found >= 0 ? found + 1 : at;
+            }
+            int rest = keys.length - from;
+            System.arraycopy(keys, from, newKeys, size, rest);
+            System.arraycopy(values, from, newValues, size, rest);
+            System.arraycopy(counts, from, newCounts, size, rest);
+            size += rest;
+            return new Dictionary(Arrays.copyOf(newKeys, size), Arrays.copyOf(newValues, size),
+                    Arrays.copyOf(newCounts, size));
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        void collect(String prefix, Kind kind, int limit, PriorityQueue<TagSuggestionDto> top) {
+            int from = Arrays.binarySearch(keys, prefix);
+            if (from < 0) {
+                from = -from - 1;
+            }
+            // Duplicate keys (same tag in different case) are adjacent; step back to the first
+            while (from > 0 && keys[from - 1].equals(prefix)) {
+                from--;
+            }
+            for (int i = from; i < keys.length && keys[i].startsWith(prefix); i++) {
+                top.add(TagSuggestionDto.builder()
+                        .value(values[i])
+                        .type(kind.name())
+                        .count(counts[i])
+                        .build());
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+    }
+}
@@ -1,36 +1,88 @@
 package com.portifolio.portfolio_service.service;
 
+import com.portifolio.portfolio_service.cache.PortfolioCacheMaintainer;
 import com.portifolio.portfolio_service.dto.UserProfileDto;
+import com.portifolio.portfolio_service.exception.ProfileNotFoundException;
 import com.portifolio.portfolio_service.model.UserProfile;
 import com.portifolio.portfolio_service.repository.UserProfileRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class UserProfileService {
 
     private final UserProfileRepository userProfileRepository;
+    private final PortfolioCacheMaintainer cacheMaintainer;
+    private final PortfolioReadModel readModel;
 
+    /**
+     * Public profile lookup, cached by username. Usernames that were just found missing are
+     * remembered for a short time, so repeated probes for them skip the database.
+     */
+    @Cacheable(value = "profiles", key = "#username", sync = true)
+    @Transactional(readOnly = true)
     public UserProfileDto getUserProfileByUsername(String username) {
-        UserProfile userProfile = userProfileRepository.findByUsername(username)
-                .orElseThrow(() -> new EntityNotFoundException("User profile not found with username: " + username));
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            UserProfileDto profile = snapshot.profile(username);
+            if (profile == null) {
+                throw new ProfileNotFoundException(username);
+            }
+            return profile;
+        }
+        if (cacheMaintainer.isProfileMissing(username)) {
+            throw new ProfileNotFoundException(username);
+        }
+        UserProfile userProfile = userProfileRepository.findByUsername(username).orElse(null);
+        if (userProfile == null) {
+            cacheMaintainer.profileMissing(username);
+            throw new ProfileNotFoundException(username);
+        }
         return mapToDto(userProfile);
     }
 
+    /**
+     * Whether the username is already known to have no profile, from the read model or the
+     * negative cache. Neither transactional nor cached, so the controller can answer repeated
+     * probes before the transaction and cache advice, whose exception wrappers capture stack
+     * traces even for the stackless {@link ProfileNotFoundException}.
+     */
+    public boolean isKnownMissing(String username) {
+        PortfolioSnapshot snapshot = readModel.current();
+        if (snapshot != null) {
+            return snapshot.profile(username) == null;
+        }
+        return cacheMaintainer.isProfileMissing(username);
+    }
+
+    @Transactional(readOnly = true)
     public UserProfileDto getUserProfileById(Long id) {
         UserProfile userProfile = userProfileRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User profile not found with id: " + id));
         return mapToDto(userProfile);
     }
 
+    List<UserProfileDto> loadAllProfiles() {
+        return userProfileRepository.findAll(Sort.by("id")).stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public UserProfileDto createUserProfile(UserProfileDto userProfileDto) {
         UserProfile userProfile = mapToEntity(userProfileDto);
         UserProfile savedUserProfile = userProfileRepository.save(userProfile);
-        return mapToDto(savedUserProfile);
+        UserProfileDto createdUserProfile = mapToDto(savedUserProfile);
+        cacheMaintainer.profileSaved(createdUserProfile, savedUserProfile.getVersion());
+        return createdUserProfile;
     }
 
     @Transactional
@@ -39,8 +91,11 @@ public class UserProfileService {
                 .orElseThrow(() -> new EntityNotFoundException("User profile not found with id: " + id));
         
         updateEntityFromDto(existingUserProfile, userProfileDto);
-        UserProfile updatedUserProfile = userProfileRepository.save(existingUserProfile);
-        return mapToDto(updatedUserProfile);
+        // Flush so the version (and updatedAt) are bumped before the change is published
+        UserProfile updatedUserProfile = userProfileRepository.saveAndFlush(existingUserProfile);
+        UserProfileDto updatedUserProfileDto = mapToDto(updatedUserProfile);
+        cacheMaintainer.profileSaved(updatedUserProfileDto, updatedUserProfile.getVersion());
+        return updatedUserProfileDto;
     }
 
     private UserProfileDto mapToDto(UserProfile userProfile) {
@@ -0,0 +1,17 @@
+-- Optimistic lock version columns for projects, skills, experiences and user_profiles (PostgreSQL).
+--
+-- The entities carry a JPA @Version counter. Besides guarding concurrent admin edits, it versions
+-- the cache sync events (PortfolioChangeEvent), so replicas order changes by the data instead of
+-- by the wall clock of the node that wrote them. Existing rows start at 0.
+--
+-- Run once before deploying this version; re-running it is harmless.
+--   psql -v ON_ERROR_STOP=1 -f entity-version-migration.sql
+
+BEGIN;
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE skills ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE experiences ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE user_profiles ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+
+COMMIT;
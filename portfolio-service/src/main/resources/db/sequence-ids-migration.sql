@@ -0,0 +1,22 @@
+-- Pooled sequence ids for projects, skills and experiences (PostgreSQL).
+--
+-- The entities now take their ids from <table>_id_seq with allocationSize = 50: Hibernate
+-- reserves 50 ids per nextval and assigns them in memory, so inserts no longer need a
+-- round trip each and can be sent as JDBC batches (hibernate.jdbc.batch_size). The
+-- sequences the former IDENTITY columns use must therefore step by 50, starting past the
+-- current maximum id. The column defaults stay in place for rows inserted outside JPA.
+--
+-- Run once before deploying this version; re-running it is harmless.
+--   psql -v ON_ERROR_STOP=1 -f sequence-ids-migration.sql
+
+BEGIN;
+
+ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
+ALTER SEQUENCE skills_id_seq INCREMENT BY 50;
+ALTER SEQUENCE experiences_id_seq INCREMENT BY 50;
+
+SELECT setval('projects_id_seq', COALESCE((SELECT max(id) FROM projects), 0) + 50);
+SELECT setval('skills_id_seq', COALESCE((SELECT max(id) FROM skills), 0) + 50);
+SELECT setval('experiences_id_seq', COALESCE((SELECT max(id) FROM experiences), 0) + 50);
+
+COMMIT;
@@ -0,0 +1,41 @@
+-- Denormalized text[] copies of the tags and responsibilities, for
+-- portfolio.persistence.collection-fetch=ARRAY (PostgreSQL).
+--
+-- projects.technology_names / projects.category_names and experiences.technology_names /
+-- experiences.responsibility_texts mirror the join and collection tables, which stay the
+-- source of truth; the service rewrites the arrays on every save. GIN indexes make tag
+-- lookups single-table containment queries:
+--   SELECT * FROM projects WHERE category_names @> ARRAY['Backend'] ORDER BY id;
+--
+-- Run once after tag-dictionary-migration.sql, before switching to ARRAY. Re-running it
+-- re-syncs the arrays from the tables.
+--   psql -v ON_ERROR_STOP=1 -f tag-arrays-migration.sql
+
+BEGIN;
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS technology_names text[];
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS category_names text[];
+ALTER TABLE experiences ADD COLUMN IF NOT EXISTS technology_names text[];
+ALTER TABLE experiences ADD COLUMN IF NOT EXISTS responsibility_texts text[];
+
+UPDATE projects p SET
+    technology_names = COALESCE((SELECT array_agg(t.name ORDER BY t.name)
+                                 FROM project_technology_tags pt JOIN tags t ON t.id = pt.tag_id
+                                 WHERE pt.project_id = p.id), '{}'),
+    category_names = COALESCE((SELECT array_agg(t.name ORDER BY t.name)
+                               FROM project_category_tags pc JOIN tags t ON t.id = pc.tag_id
+                               WHERE pc.project_id = p.id), '{}');
+
+UPDATE experiences e SET
+    technology_names = COALESCE((SELECT array_agg(t.name ORDER BY t.name)
+                                 FROM experience_technology_tags et JOIN tags t ON t.id = et.tag_id
+                                 WHERE et.experience_id = e.id), '{}'),
+    responsibility_texts = COALESCE((SELECT array_agg(r.responsibility ORDER BY r.responsibility)
+                                     FROM experience_responsibilities r
+                                     WHERE r.experience_id = e.id), '{}');
+
+CREATE INDEX IF NOT EXISTS idx_projects_technology_names ON projects USING GIN (technology_names);
+CREATE INDEX IF NOT EXISTS idx_projects_category_names ON projects USING GIN (category_names);
+CREATE INDEX IF NOT EXISTS idx_experiences_technology_names ON experiences USING GIN (technology_names);
+
+COMMIT;
@@ -0,0 +1,66 @@
+-- One-off migration of the tag element collections to the tag dictionary (PostgreSQL).
+--
+-- Before: project_technologies(project_id, technology), project_categories(project_id, category)
+-- and experience_technologies(experience_id, technology) repeat every tag string per row.
+-- After: each distinct string is stored once in tags(id, name), and the join tables
+-- project_technology_tags, project_category_tags and experience_technology_tags hold integer
+-- pairs only.
+--
+-- Run once, with the service stopped, before deploying the version that maps Tag:
+--   psql -v ON_ERROR_STOP=1 -f tag-dictionary-migration.sql
+-- The old tables are kept for rollback; drop them once the new version is verified.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS tags (
+    id   SERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE
+);
+
+INSERT INTO tags (name)
+SELECT technology FROM project_technologies WHERE technology IS NOT NULL
+UNION
+SELECT category FROM project_categories WHERE category IS NOT NULL
+UNION
+SELECT technology FROM experience_technologies WHERE technology IS NOT NULL
+ON CONFLICT (name) DO NOTHING;
+
+CREATE TABLE IF NOT EXISTS project_technology_tags (
+    project_id BIGINT  NOT NULL REFERENCES projects (id),
+    tag_id     INTEGER NOT NULL REFERENCES tags (id),
+    PRIMARY KEY (project_id, tag_id)
+);
+
+CREATE TABLE IF NOT EXISTS project_category_tags (
+    project_id BIGINT  NOT NULL REFERENCES projects (id),
+    tag_id     INTEGER NOT NULL REFERENCES tags (id),
+    PRIMARY KEY (project_id, tag_id)
+);
+
+CREATE TABLE IF NOT EXISTS experience_technology_tags (
+    experience_id BIGINT  NOT NULL REFERENCES experiences (id),
+    tag_id        INTEGER NOT NULL REFERENCES tags (id),
+    PRIMARY KEY (experience_id, tag_id)
+);
+
+-- Reverse lookups (projects by tag) for the category/technology filters
+CREATE INDEX IF NOT EXISTS idx_project_technology_tags_tag ON project_technology_tags (tag_id);
+CREATE INDEX IF NOT EXISTS idx_project_category_tags_tag ON project_category_tags (tag_id);
+CREATE INDEX IF NOT EXISTS idx_experience_technology_tags_tag ON experience_technology_tags (tag_id);
+
+INSERT INTO project_technology_tags (project_id, tag_id)
+SELECT DISTINCT pt.project_id, t.id
+FROM project_technologies pt JOIN tags t ON t.name = pt.technology
+ON CONFLICT DO NOTHING;
+
+INSERT INTO project_category_tags (project_id, tag_id)
+SELECT DISTINCT pc.project_id, t.id
+FROM project_categories pc JOIN tags t ON t.name = pc.category
+ON CONFLICT DO NOTHING;
+
+INSERT INTO experience_technology_tags (experience_id, tag_id)
+SELECT DISTINCT et.experience_id, t.id
+FROM experience_technologies et JOIN tags t ON t.name = et.technology
+ON CONFLICT DO NOTHING;
+
+COMMIT;
@@ -0,0 +1,98 @@
+-- Compares the two tag layouts on a synthetic dataset in a local PostgreSQL: the normalized
+-- join tables (tags + project_category_tags / project_technology_tags) against GIN-indexed
+-- text[] columns. Everything is created in a throwaway schema; nothing touches the
+-- application tables.
+--
+--   createdb tag_bench && psql -d tag_bench -f tag-layout-benchmark.sql
+--
+-- Each lookup runs under EXPLAIN (ANALYZE, BUFFERS); compare the plans, execution times and
+-- shared buffers of the "join" and "array" variants. Adjust the row counts at the top.
+
+\set projects 100000
+\set tags 500
+\set tags_per_project 6
+
+DROP SCHEMA IF EXISTS tag_bench CASCADE;
+CREATE SCHEMA tag_bench;
+SET search_path = tag_bench;
+
+CREATE TABLE tags (id SERIAL PRIMARY KEY, name VARCHAR(255) NOT NULL UNIQUE);
+INSERT INTO tags (name) SELECT 'tag-' || i FROM generate_series(1, :tags) i;
+
+CREATE TABLE projects (
+    id               BIGSERIAL PRIMARY KEY,
+    title            VARCHAR(255) NOT NULL,
+    technology_names text[],
+    category_names   text[]
+);
+INSERT INTO projects (title) SELECT 'Project ' || i FROM generate_series(1, :projects) i;
+
+CREATE TABLE project_technology_tags (project_id BIGINT NOT NULL, tag_id INTEGER NOT NULL, PRIMARY KEY (project_id, tag_id));
+CREATE TABLE project_category_tags (project_id BIGINT NOT NULL, tag_id INTEGER NOT NULL, PRIMARY KEY (project_id, tag_id));
+
+-- Skewed tag popularity: low tag ids are far more common, like real technology tags
+INSERT INTO project_technology_tags
+SELECT DISTINCT p.id, 1 + floor(power(random(), 3) * :tags)::int
+FROM projects p, generate_series(1, :tags_per_project);
+INSERT INTO project_category_tags
+SELECT DISTINCT p.id, 1 + floor(power(random(), 2) * 20)::int
+FROM projects p, generate_series(1, 2);
+
+CREATE INDEX ON project_technology_tags (tag_id);
+CREATE INDEX ON project_category_tags (tag_id);
+
+UPDATE projects p SET
+    technology_names = (SELECT array_agg(t.name ORDER BY t.name) FROM project_technology_tags pt
+                        JOIN tags t ON t.id = pt.tag_id WHERE pt.project_id = p.id),
+    category_names = (SELECT array_agg(t.name ORDER BY t.name) FROM project_category_tags pc
+                      JOIN tags t ON t.id = pc.tag_id WHERE pc.project_id = p.id);
+CREATE INDEX ON projects USING GIN (technology_names);
+CREATE INDEX ON projects USING GIN (category_names);
+
+VACUUM ANALYZE;
+
+\echo '== category lookup, join layout =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT DISTINCT p.* FROM projects p
+JOIN project_category_tags pc ON pc.project_id = p.id
+JOIN tags c ON c.id = pc.tag_id
+WHERE c.name = 'tag-3' ORDER BY p.id;
+
+\echo '== category lookup, array layout =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.* FROM projects p WHERE p.category_names @> ARRAY['tag-3'] ORDER BY p.id;
+
+\echo '== rare technology lookup, join layout =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT DISTINCT p.* FROM projects p
+JOIN project_technology_tags pt ON pt.project_id = p.id
+JOIN tags t ON t.id = pt.tag_id
+WHERE t.name = 'tag-400' ORDER BY p.id;
+
+\echo '== rare technology lookup, array layout =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.* FROM projects p WHERE p.technology_names @> ARRAY['tag-400'] ORDER BY p.id;
+
+\echo '== two technologies (AND), join layout =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.* FROM projects p
+WHERE p.id IN (SELECT pt.project_id FROM project_technology_tags pt JOIN tags t ON t.id = pt.tag_id
+               WHERE t.name IN ('tag-1', 'tag-2') GROUP BY pt.project_id HAVING count(*) = 2)
+ORDER BY p.id;
+
+\echo '== two technologies (AND), array layout =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.* FROM projects p WHERE p.technology_names @> ARRAY['tag-1', 'tag-2'] ORDER BY p.id;
+
+\echo '== all projects with tags, join layout (findAllLazy + two subselects) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT pt.project_id, t.name FROM project_technology_tags pt JOIN tags t ON t.id = pt.tag_id;
+
+\echo '== all projects with tags, array layout (single table) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, title, technology_names, category_names FROM projects ORDER BY id;
+
+\echo '== table and index sizes =='
+SELECT relname, pg_size_pretty(pg_total_relation_size(oid)) AS total
+FROM pg_class WHERE relnamespace = 'tag_bench'::regnamespace AND relkind IN ('r', 'i')
+ORDER BY pg_total_relation_size(oid) DESC;
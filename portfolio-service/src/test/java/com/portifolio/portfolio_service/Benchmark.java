@@ -0,0 +1,89 @@
+package com.portifolio.portfolio_service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Measurement helpers for the opt-in benchmarks. Those tests only run with
+ * {@code -Dbenchmark=true} ({@code @EnabledIfSystemProperty(named = Benchmark.PROPERTY, matches = "true")})
+ * because timings and heap deltas depend on the machine and are too noisy for assertions
+ * beyond a coarse comparison. Results are printed with a {@code [benchmark]} prefix so they
+ * can be grepped out of the build log.
+ */
+public final class Benchmark {
+
+	public static final String PROPERTY = "benchmark";
+
+	private static final com.sun.management.ThreadMXBean THREADS =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+	private Benchmark() {
+	}
+
+	/**
+	 * Runs {@code action} {@code warmup} times unmeasured, then {@code runs} times measured.
+	 */
+	public static Timing time(int warmup, int runs, Supplier<?> action) {
+		for (int i = 0; i < warmup; i++) {
+			Reference.reachabilityFence(action.get());
+		}
+		long[] nanos = new long[runs];
+		long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < runs; i++) {
+			long start = System.nanoTime();
+			Reference.reachabilityFence(action.get());
+			nanos[i] = System.nanoTime() - start;
+		}
+		long allocated = (THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore) / runs;
+		Arrays.sort(nanos);
+		return new Timing(percentileMillis(nanos, 0.5), percentileMillis(nanos, 0.99), allocated);
+	}
+
+	/**
+	 * Bytes allocated while building a value and the heap it still retains once built, measured
+	 * between full collections.
+	 */
+	public static Footprint footprint(Supplier<?> build) {
+		settleHeap();
+		long heapBefore = MEMORY.getHeapMemoryUsage().getUsed();
+		long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+		Object built = build.get();
+		long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+		settleHeap();
+		long retained = MEMORY.getHeapMemoryUsage().getUsed() - heapBefore;
+		Reference.reachabilityFence(built);
+		return new Footprint(allocated, retained);
+	}
+
+	/**
+	 * @param sortedNanos durations in ascending order
+	 */
+	public static double percentileMillis(long[] sortedNanos, double quantile) {
+		if (sortedNanos.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(sortedNanos.length * quantile) - 1);
+		return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+	}
+
+	public static void report(String format, Object... args) {
+		System.out.println("[benchmark] " + String.format(Locale.ROOT, format, args));
+	}
+
+	private static void settleHeap() {
+		for (int i = 0; i < 3; i++) {
+			MEMORY.gc();
+		}
+	}
+
+	public record Timing(double medianMillis, double p99Millis, long allocatedBytesPerRun) {
+	}
+
+	public record Footprint(long allocatedBytes, long retainedBytes) {
+	}
+}
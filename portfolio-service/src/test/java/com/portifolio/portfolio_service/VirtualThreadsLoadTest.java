@@ -0,0 +1,138 @@
+package com.portifolio.portfolio_service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput and tail latency of two running instances under the same closed-loop load: one on
+ * the platform Tomcat pool and one started with the {@code virtual-threads} profile on Java 21.
+ * Point both at the same database and run, for example:
+ * <pre>
+ * mvn test -Dtest=VirtualThreadsLoadTest -Dbenchmark=true \
+ *     -Dloadtest.platform-url=http://localhost:8083 -Dloadtest.virtual-url=http://localhost:8084 \
+ *     -Dloadtest.clients=400 -Dloadtest.paths=/api/public/portfolio/admin,/api/public/projects
+ * </pre>
+ * Requests that reach the database or Keycloak show the difference; fully cached paths are
+ * bound by serialization on both. It has never been run, so no numbers are recorded: it needs
+ * two running instances and a Java 21 runtime for the virtual one (on older runtimes that
+ * instance refuses to start, see {@code VirtualThreadsConfig}).
+ */
+@EnabledIfSystemProperty(named = Benchmark.PROPERTY, matches = "true")
+class VirtualThreadsLoadTest {
+
+	private static final Duration WARMUP = Duration.ofSeconds(10);
+	private static final Duration MEASURE = Duration.ofSeconds(30);
+
+	@Test
+	void comparePlatformAndVirtualThreads() throws Exception {
+		int clients = Integer.getInteger("loadtest.clients", 200);
+		List<String> paths = Arrays.asList(System.getProperty("loadtest.paths",
+				"/api/public/projects,/api/public/skills,/api/public/experiences").split(","));
+
+		Result platform = run(System.getProperty("loadtest.platform-url", "http://localhost:8083"), paths, clients);
+		Result virtual = run(System.getProperty("loadtest.virtual-url", "http://localhost:8084"), paths, clients);
+
+		Benchmark.report("%d clients, %s", clients, paths);
+		Benchmark.report("platform threads: %s", platform);
+		Benchmark.report("virtual threads:  %s", virtual);
+		assertThat(platform.requests()).isPositive();
+		assertThat(virtual.requests()).isPositive();
+	}
+
+	private static Result run(String baseUrl, List<String> paths, int clients) throws Exception {
+		HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+		ExecutorService executor = Executors.newFixedThreadPool(clients);
+		try {
+			load(httpClient, executor, baseUrl, paths, clients, WARMUP);
+			return load(httpClient, executor, baseUrl, paths, clients, MEASURE);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static Result load(HttpClient httpClient, ExecutorService executor, String baseUrl, List<String> paths,
+							   int clients, Duration duration) throws Exception {
+		long deadline = System.nanoTime() + duration.toNanos();
+		List<Future<Samples>> futures = new ArrayList<>();
+		for (int client = 0; client < clients; client++) {
+			int offset = client;
+			futures.add(executor.submit(() -> {
+				Samples samples = new Samples();
+				for (int i = offset; System.nanoTime() < deadline; i++) {
+					HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + paths.get(i % paths.size())))
+							.timeout(Duration.ofSeconds(30))
+							.GET()
+							.build();
+					long start = System.nanoTime();
+					try {
+						int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+						samples.add(System.nanoTime() - start, status < 400);
+					} catch (Exception e) {
+						samples.add(System.nanoTime() - start, false);
+					}
+				}
+				return samples;
+			}));
+		}
+		Samples all = new Samples();
+		for (Future<Samples> future : futures) {
+			all.addAll(future.get());
+		}
+		return all.result(duration);
+	}
+
+	private static final class Samples {
+		private long[] nanos = new long[1024];
+		private int count;
+		private int errors;
+
+		void add(long elapsed, boolean ok) {
+			if (count == nanos.length) {
+				nanos = Arrays.copyOf(nanos, count * 2);
+			}
+			nanos[count++] = elapsed;
+			if (!ok) {
+				errors++;
+			}
+		}
+
+		void addAll(Samples other) {
+			for (int i = 0; i < other.count; i++) {
+				add(other.nanos[i], true);
+			}
+			errors += other.errors;
+		}
+
+		Result result(Duration duration) {
+			long[] sorted = Arrays.copyOf(nanos, count);
+			Arrays.sort(sorted);
+			return new Result(count, errors, count / (double) duration.toSeconds(),
+					Benchmark.percentileMillis(sorted, 0.50), Benchmark.percentileMillis(sorted, 0.99),
+					Benchmark.percentileMillis(sorted, 0.999));
+		}
+	}
+
+	private record Result(long requests, int errors, double perSecond, double p50Millis, double p99Millis,
+						  double p999Millis) {
+
+		@Override
+		public String toString() {
+			return String.format("%,d requests (%d errors), %.0f req/s, p50 %.1f ms, p99 %.1f ms, p99.9 %.1f ms",
+					requests, errors, perSecond, p50Millis, p99Millis, p999Millis);
+		}
+	}
+}
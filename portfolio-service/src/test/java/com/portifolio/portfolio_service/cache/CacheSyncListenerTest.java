@@ -0,0 +1,91 @@
+package com.portifolio.portfolio_service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.SkillDto;
+import com.portifolio.portfolio_service.dto.SortedStringSet;
+import com.portifolio.portfolio_service.dto.TagNames;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CacheSyncListenerTest {
+
+	private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+	private final PortfolioCacheMaintainer cacheMaintainer = mock(PortfolioCacheMaintainer.class);
+	@SuppressWarnings("unchecked")
+	private final CacheSyncPublisher publisher = new CacheSyncPublisher(
+			mock(KafkaTemplate.class), objectMapper, "portfolio-cache-sync", "local");
+	private final CacheSyncListener listener = new CacheSyncListener(cacheMaintainer, objectMapper, publisher);
+
+	@Test
+	void appliesOnlyTheNewestVersionPerEntityOnce() throws Exception {
+		String older = skillSaved("remote", 7L, "Java", 100);
+		String newer = skillSaved("remote", 7L, "Kotlin", 200);
+
+		listener.onMessages(List.of(older, newer, older));
+		listener.onMessages(List.of(newer));
+
+		ArgumentCaptor<PortfolioChangeEvent> applied = ArgumentCaptor.forClass(PortfolioChangeEvent.class);
+		verify(cacheMaintainer, times(1)).applyRemote(applied.capture());
+		assertThat(applied.getValue().version()).isEqualTo(200);
+		assertThat(((SkillDto) applied.getValue().payload()).getName()).isEqualTo("Kotlin");
+	}
+
+	@Test
+	void skipsOwnChangesAndChangesOlderThanLocalWrites() throws Exception {
+		listener.onLocalChange(PortfolioChangeEvent.deleted(PortfolioAggregate.SKILLS, 8L, 3));
+
+		listener.onMessages(List.of(skillSaved("local", 9L, "Go", 0),
+				skillSaved("remote", 8L, "Rust", 2)));
+
+		verify(cacheMaintainer, never()).applyRemote(any());
+	}
+
+	@Test
+	void appliesEveryReload() throws Exception {
+		String reloaded = objectMapper.writeValueAsString(new CacheSyncMessage("remote", PortfolioAggregate.SKILLS,
+				PortfolioChangeEvent.Type.RELOADED, null, 0, null));
+
+		listener.onMessages(List.of(reloaded, reloaded));
+		listener.onMessages(List.of(reloaded));
+
+		verify(cacheMaintainer, times(2)).applyRemote(any());
+	}
+
+	@Test
+	void decodedTagsArePooledAndImmutable() throws Exception {
+		String pooled = TagNames.intern("Spring Boot");
+		ProjectDto project = ProjectDto.builder().id(3L)
+				.technologies(new HashSet<>(Set.of(new String("Spring Boot"), "Kafka")))
+				.categories(new HashSet<>(Set.of("Backend")))
+				.build();
+		listener.onMessages(List.of(objectMapper.writeValueAsString(new CacheSyncMessage("remote",
+				PortfolioAggregate.PROJECTS, PortfolioChangeEvent.Type.SAVED, 3L, 1, objectMapper.valueToTree(project)))));
+
+		ArgumentCaptor<PortfolioChangeEvent> applied = ArgumentCaptor.forClass(PortfolioChangeEvent.class);
+		verify(cacheMaintainer).applyRemote(applied.capture());
+		ProjectDto decoded = (ProjectDto) applied.getValue().payload();
+		assertThat(decoded.getTechnologies()).isInstanceOf(SortedStringSet.class).containsExactly("Kafka", "Spring Boot");
+		assertThat(decoded.getTechnologies().stream().filter("Spring Boot"::equals).findFirst()).containsSame(pooled);
+		assertThat(decoded.getCategories()).isInstanceOf(SortedStringSet.class).containsExactly("Backend");
+	}
+
+	private String skillSaved(String origin, Long id, String name, long version) throws Exception {
+		SkillDto skill = SkillDto.builder().id(id).name(name).build();
+		return objectMapper.writeValueAsString(new CacheSyncMessage(origin, PortfolioAggregate.SKILLS,
+				PortfolioChangeEvent.Type.SAVED, id, version, objectMapper.valueToTree(skill)));
+	}
+}
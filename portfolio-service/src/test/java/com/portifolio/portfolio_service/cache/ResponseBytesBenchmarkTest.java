@@ -0,0 +1,99 @@
+package com.portifolio.portfolio_service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.portifolio.portfolio_service.Benchmark;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.TagNames;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-request cost of answering {@code GET /api/public/projects} from the DTO cache, which
+ * serializes the cached list with Jackson on every hit, versus from the {@link CachedResponse}
+ * bytes {@link PublicResponseCacheFilter} stores, which are copied to the response as is. Both
+ * write to a fresh discarding stream per request, so socket and servlet costs are left out:
+ * {@code mvn test -Dtest=ResponseBytesBenchmarkTest -Dbenchmark=true}.
+ *
+ * <p>Measured on JDK 17.0.9 (G1, -Xmx512m), 200 warm-up and 2,000 measured requests, three runs:
+ * 100 projects (44 KB): Jackson median 0.13-0.18 ms, p99 4.3 ms; cached bytes median and p99
+ * under 0.003 ms. 1,000 projects (446 KB): Jackson median 0.95-1.24 ms, p99 2.0-3.4 ms; cached
+ * bytes under 0.001 ms. Allocation is not where the difference lies: Jackson recycles its
+ * buffers and streams straight to the target, leaving 0.5-0.8 KB per request against 16 bytes
+ * for the copy. The saving is the serialization CPU time and its tail.</p>
+ */
+@EnabledIfSystemProperty(named = Benchmark.PROPERTY, matches = "true")
+class ResponseBytesBenchmarkTest {
+
+	private static final int WARMUP = 200;
+	private static final int RUNS = 2_000;
+
+	private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+	@Test
+	void cachedBytesVersusJacksonPerRequest() throws Exception {
+		for (int size : new int[]{100, 1_000}) {
+			List<ProjectDto> projects = projects(size);
+			byte[] body = objectMapper.writeValueAsBytes(projects);
+			CachedResponse cached = new CachedResponse("application/json", body, DigestUtils.md5DigestAsHex(body), null);
+
+			Benchmark.Timing jackson = Benchmark.time(WARMUP, RUNS, () -> {
+				OutputStream socket = OutputStream.nullOutputStream();
+				try {
+					objectMapper.writeValue(socket, projects);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				return socket;
+			});
+			Benchmark.Timing bytes = Benchmark.time(WARMUP, RUNS, () -> {
+				OutputStream socket = OutputStream.nullOutputStream();
+				try {
+					socket.write(cached.body());
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				return socket;
+			});
+
+			Benchmark.report("%,d projects (%,d bytes): Jackson median %.3f ms, p99 %.3f ms, %,d bytes allocated; "
+							+ "cached bytes median %.3f ms, p99 %.3f ms, %,d bytes allocated",
+					size, cached.body().length, jackson.medianMillis(), jackson.p99Millis(),
+					jackson.allocatedBytesPerRun(), bytes.medianMillis(), bytes.p99Millis(),
+					bytes.allocatedBytesPerRun());
+			assertThat(bytes.medianMillis()).isLessThan(jackson.medianMillis());
+		}
+	}
+
+	private static List<ProjectDto> projects(int size) {
+		String[] technologies = {"Java", "Spring Boot", "PostgreSQL", "Kafka", "Docker", "React", "Redis"};
+		List<ProjectDto> projects = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			projects.add(ProjectDto.builder()
+					.id((long) i)
+					.title("Project " + i)
+					.description("A portfolio project with a description of typical length, number " + i)
+					.summary("Summary " + i)
+					.githubUrl("https://github.com/example/project-" + i)
+					.imageUrl("https://cdn.example.com/images/project-" + i + ".png")
+					.startDate(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(i))
+					.technologies(TagNames.intern(Set.of(technologies[i % 7], technologies[(i + 3) % 7])))
+					.categories(TagNames.intern(Set.of(i % 2 == 0 ? "Backend" : "Frontend")))
+					.createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+					.updatedAt(LocalDateTime.of(2024, 6, 1, 0, 0).plusMinutes(i))
+					.build());
+		}
+		return projects;
+	}
+}
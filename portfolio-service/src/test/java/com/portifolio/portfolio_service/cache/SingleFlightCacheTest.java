@@ -0,0 +1,131 @@
+package com.portifolio.portfolio_service.cache;
+
+import com.portifolio.portfolio_service.model.Project;
+import com.portifolio.portfolio_service.repository.ProjectRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SingleFlightCacheTest {
+
+	private static final int CALLERS = 200;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("projects"), meterRegistry);
+	private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+
+	@Test
+	void concurrentMissesRunTheLoaderOnce() throws Exception {
+		List<Project> projects = List.of(Project.builder().id(1L).title("Portfolio").build());
+		CountDownLatch start = new CountDownLatch(1);
+		when(projectRepository.findAllWithCollections()).thenAnswer(invocation -> {
+			Thread.sleep(200);
+			return projects;
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+		try {
+			List<Future<List<Project>>> results = new ArrayList<>();
+			for (int i = 0; i < CALLERS; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return cache.get(SimpleKey.EMPTY, projectRepository::findAllWithCollections);
+				}));
+			}
+			start.countDown();
+
+			for (Future<List<Project>> result : results) {
+				assertThat(result.get(10, TimeUnit.SECONDS)).isSameAs(projects);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		verify(projectRepository, times(1)).findAllWithCollections();
+		assertThat(meterRegistry.get("cache.loads.coalesced").tag("cache", "projects").counter().count())
+				.isGreaterThan(0);
+	}
+
+	@Test
+	void writeDuringALoadIsNotOverwrittenByIt() throws Exception {
+		List<Project> stale = List.of(Project.builder().id(1L).title("Before").build());
+		List<Project> patched = List.of(Project.builder().id(1L).title("After").build());
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch written = new CountDownLatch(1);
+		when(projectRepository.findAllWithCollections()).thenAnswer(invocation -> {
+			loading.countDown();
+			written.await();
+			return stale;
+		});
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<List<Project>> load = executor.submit(() ->
+					cache.get(SimpleKey.EMPTY, projectRepository::findAllWithCollections));
+			assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+			// The write commits and patches the list while the loader still holds the old rows
+			cache.put(SimpleKey.EMPTY, patched);
+			written.countDown();
+
+			assertThat(load.get(10, TimeUnit.SECONDS)).isSameAs(stale);
+			assertThat(cache.get(SimpleKey.EMPTY).get()).isSameAs(patched);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void evictDuringALoadKeepsItsResultOutOfTheCache() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch evicted = new CountDownLatch(1);
+		when(projectRepository.findAllWithCollections()).thenAnswer(invocation -> {
+			loading.countDown();
+			evicted.await();
+			return List.of();
+		});
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<List<Project>> load = executor.submit(() ->
+					cache.get(SimpleKey.EMPTY, projectRepository::findAllWithCollections));
+			assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+			cache.evict(SimpleKey.EMPTY);
+			evicted.countDown();
+
+			assertThat(load.get(10, TimeUnit.SECONDS)).isEmpty();
+			assertThat(cache.get(SimpleKey.EMPTY)).isNull();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void failedLoadIsNotCachedAndIsRetried() {
+		when(projectRepository.findAllWithCollections())
+				.thenThrow(new IllegalStateException("database unavailable"))
+				.thenReturn(List.of());
+
+		assertThatThrownBy(() -> cache.get(SimpleKey.EMPTY, projectRepository::findAllWithCollections))
+				.isInstanceOf(Cache.ValueRetrievalException.class)
+				.hasRootCauseInstanceOf(IllegalStateException.class);
+		assertThat(cache.get(SimpleKey.EMPTY, projectRepository::findAllWithCollections)).isEmpty();
+		verify(projectRepository, times(2)).findAllWithCollections();
+	}
+}
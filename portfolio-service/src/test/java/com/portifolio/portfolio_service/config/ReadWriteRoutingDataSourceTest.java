@@ -0,0 +1,103 @@
+package com.portifolio.portfolio_service.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadWriteRoutingDataSourceTest {
+
+	private final DataSource primary = mock(DataSource.class);
+	private final DataSource replica = mock(DataSource.class);
+	private final ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica);
+
+	@AfterEach
+	void clear() {
+		ReadWriteRoutingDataSource.pinToPrimary(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+	}
+
+	@Test
+	void readOnlyTransactionsUseTheReplica() throws Exception {
+		inTransaction(true);
+
+		routing.getConnection();
+
+		verify(replica).getConnection();
+		verify(primary, never()).getConnection();
+	}
+
+	@Test
+	void writesAndNonTransactionalWorkUseThePrimary() throws Exception {
+		assertThat(ReadWriteRoutingDataSource.currentRoute()).isEqualTo(ReadWriteRoutingDataSource.Route.PRIMARY);
+
+		inTransaction(false);
+		routing.getConnection();
+
+		verify(primary).getConnection();
+		verify(replica, never()).getConnection();
+	}
+
+	@Test
+	void pinnedThreadsReadFromThePrimary() throws Exception {
+		inTransaction(true);
+		ReadWriteRoutingDataSource.pinToPrimary(true);
+
+		routing.getConnection();
+
+		verify(primary).getConnection();
+		verify(replica, never()).getConnection();
+	}
+
+	@Test
+	void onPrimaryPinsForTheWorkAndRestoresTheCallersPin() throws Exception {
+		inTransaction(true);
+
+		ReadWriteRoutingDataSource.callOnPrimary(routing::getConnection);
+		routing.getConnection();
+
+		verify(primary).getConnection();
+		verify(replica).getConnection();
+		assertThat(ReadWriteRoutingDataSource.isPinnedToPrimary()).isFalse();
+
+		ReadWriteRoutingDataSource.pinToPrimary(true);
+		ReadWriteRoutingDataSource.onPrimary(() -> null);
+		assertThat(ReadWriteRoutingDataSource.isPinnedToPrimary()).isTrue();
+	}
+
+	@Test
+	void lazyProxyRoutesOnFirstUseNotOnBegin() throws Exception {
+		Connection connection = mock(Connection.class);
+		when(primary.getConnection()).thenReturn(connection);
+		when(replica.getConnection()).thenReturn(connection);
+		// Defaults set up front, otherwise the proxy fetches a connection to detect them
+		LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+		proxy.setDefaultAutoCommit(true);
+		proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+		proxy.setTargetDataSource(routing);
+		proxy.afterPropertiesSet();
+
+		// Obtained before the transaction is marked read-only, as a transaction manager does
+		Connection lazy = proxy.getConnection();
+		inTransaction(true);
+		lazy.createStatement();
+
+		verify(replica).getConnection();
+		verify(primary, never()).getConnection();
+	}
+
+	private static void inTransaction(boolean readOnly) {
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+	}
+}
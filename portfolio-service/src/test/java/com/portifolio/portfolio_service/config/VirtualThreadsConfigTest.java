@@ -0,0 +1,29 @@
+package com.portifolio.portfolio_service.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadsConfigTest {
+
+	private final ApplicationContextRunner runner = new ApplicationContextRunner()
+			.withUserConfiguration(VirtualThreadsConfig.class);
+
+	@Test
+	@EnabledForJreRange(max = JRE.JAVA_20)
+	void refusesToStartWithVirtualThreadsBeforeJava21() {
+		runner.withPropertyValues("spring.threads.virtual.enabled=true")
+				.run(context -> assertThat(context).hasFailed()
+						.getFailure().hasRootCauseInstanceOf(IllegalStateException.class)
+						.rootCause().hasMessageContaining("needs Java 21"));
+	}
+
+	@Test
+	void startsOnPlatformThreadsOnAnyRuntime() {
+		runner.withPropertyValues("spring.threads.virtual.enabled=false")
+				.run(context -> assertThat(context).hasNotFailed());
+	}
+}
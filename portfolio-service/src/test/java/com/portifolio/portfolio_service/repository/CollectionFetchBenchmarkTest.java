@@ -0,0 +1,123 @@
+package com.portifolio.portfolio_service.repository;
+
+import com.portifolio.portfolio_service.Benchmark;
+import com.portifolio.portfolio_service.model.Project;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rows transferred and latency of loading every project with its technologies and categories,
+ * JOIN (the double {@code LEFT JOIN FETCH ... DISTINCT} query) versus SUBSELECT (root rows, then
+ * one subselect per collection), at 1k, 10k and 100k projects.
+ *
+ * <p>Each size is seeded inside a transaction that is rolled back afterwards (four technologies
+ * and two categories per project), so it needs the application's database but leaves it as it
+ * was. The queries run through the entity manager with the second-level and query caches
+ * bypassed, so every run reads from the database:
+ * {@code mvn test -Dtest=CollectionFetchBenchmarkTest -Dbenchmark=true [-Dbenchmark.sizes=1000,10000]}.
+ * Not yet measured: no database was available where it was written.</p>
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = Benchmark.PROPERTY, matches = "true")
+class CollectionFetchBenchmarkTest {
+
+	private static final int WARMUP = 3;
+	private static final int RUNS = 10;
+
+	private static final String JOIN_QUERY =
+			"SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.technologies LEFT JOIN FETCH p.categories ORDER BY p.id";
+	private static final String ROOT_QUERY = "SELECT p FROM Project p ORDER BY p.id";
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void joinVersusSubselectAt1k10k100kProjects() {
+		int[] sizes = Arrays.stream(System.getProperty("benchmark.sizes", "1000,10000,100000").split(","))
+				.mapToInt(Integer::parseInt)
+				.toArray();
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		for (int size : sizes) {
+			transaction.executeWithoutResult(status -> {
+				status.setRollbackOnly();
+				seed(size);
+				entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+
+				long joinRows = count("""
+						SELECT count(*) FROM projects p
+						LEFT JOIN project_technology_tags pt ON pt.project_id = p.id
+						LEFT JOIN project_category_tags pc ON pc.project_id = p.id""");
+				long subselectRows = count("SELECT count(*) FROM projects")
+						+ count("SELECT count(*) FROM project_technology_tags")
+						+ count("SELECT count(*) FROM project_category_tags");
+				Benchmark.Timing join = Benchmark.time(WARMUP, RUNS, () -> load(JOIN_QUERY));
+				Benchmark.Timing subselect = Benchmark.time(WARMUP, RUNS, () -> load(ROOT_QUERY));
+
+				Benchmark.report("%,d projects: JOIN %,d rows, median %.1f ms, p99 %.1f ms; "
+								+ "SUBSELECT %,d rows, median %.1f ms, p99 %.1f ms",
+						size, joinRows, join.medianMillis(), join.p99Millis(),
+						subselectRows, subselect.medianMillis(), subselect.p99Millis());
+				assertThat(subselectRows).isLessThan(joinRows);
+			});
+		}
+	}
+
+	private int load(String jpql) {
+		entityManager.clear();
+		List<Project> projects = entityManager.createQuery(jpql, Project.class).getResultList();
+		// Initializes both collections, as mapToDto does; with SUBSELECT this runs the two subselects
+		projects.forEach(project -> {
+			project.getTechnologies().size();
+			project.getCategories().size();
+		});
+		return projects.size();
+	}
+
+	private void seed(int size) {
+		jdbcTemplate.update("""
+				INSERT INTO tags (name) SELECT 'bench-tag-' || g FROM generate_series(1, 20) g
+				ON CONFLICT (name) DO NOTHING""");
+		jdbcTemplate.update("""
+				INSERT INTO projects (id, title, description, featured, created_at, updated_at)
+				SELECT nextval('projects_id_seq'), 'Benchmark ' || g, 'Seeded by CollectionFetchBenchmarkTest',
+				       g % 10 = 0, now(), now()
+				FROM generate_series(1, ?) g""", size);
+		jdbcTemplate.update("""
+				INSERT INTO project_technology_tags (project_id, tag_id)
+				SELECT p.id, t.id FROM projects p
+				JOIN generate_series(0, 3) k ON true
+				JOIN tags t ON t.name = 'bench-tag-' || ((p.id + k * 3) % 16 + 1)
+				WHERE p.description = 'Seeded by CollectionFetchBenchmarkTest'""");
+		jdbcTemplate.update("""
+				INSERT INTO project_category_tags (project_id, tag_id)
+				SELECT p.id, t.id FROM projects p
+				JOIN generate_series(0, 1) k ON true
+				JOIN tags t ON t.name = 'bench-tag-' || (17 + (p.id + k) % 4)
+				WHERE p.description = 'Seeded by CollectionFetchBenchmarkTest'""");
+		entityManager.clear();
+	}
+
+	private long count(String sql) {
+		Long count = jdbcTemplate.queryForObject(sql, Long.class);
+		return count == null ? 0 : count;
+	}
+}
@@ -0,0 +1,63 @@
+package com.portifolio.portfolio_service.repository;
+
+import com.portifolio.portfolio_service.Benchmark;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.model.Project;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency and allocation of loading all projects through {@code findAllWithCollections()}
+ * (managed entities, read-only transaction) versus {@link DtoProjectionRepository}. Needs the
+ * application's database with representative data, so it only runs on request:
+ * {@code mvn test -Dtest=DtoProjectionBenchmarkTest -Dbenchmark=true}. No numbers are recorded:
+ * it has never been run against a database. Without a configured datasource the context fails
+ * to start ("Failed to determine a suitable driver class") and nothing is measured.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = Benchmark.PROPERTY, matches = "true")
+class DtoProjectionBenchmarkTest {
+
+	private static final int WARMUP = 20;
+	private static final int RUNS = 50;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private DtoProjectionRepository projections;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void projectionAllocatesLessThanEntityHydration() {
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		Benchmark.Timing entities = Benchmark.time(WARMUP, RUNS, () -> readOnly.execute(status -> {
+			List<Project> projects = projectRepository.findAllWithCollections();
+			// Touch the collections as mapToDto does
+			projects.forEach(project -> project.getTechnologies().size());
+			return projects.size();
+		}));
+		Benchmark.Timing dtos = Benchmark.time(WARMUP, RUNS, () -> readOnly.execute(status -> {
+			List<ProjectDto> projects = projections.findAllProjects();
+			return projects.size();
+		}));
+
+		Benchmark.report("findAllWithCollections: median %.2f ms, %,d bytes allocated per call",
+				entities.medianMillis(), entities.allocatedBytesPerRun());
+		Benchmark.report("DtoProjectionRepository: median %.2f ms, %,d bytes allocated per call",
+				dtos.medianMillis(), dtos.allocatedBytesPerRun());
+		assertThat(dtos.allocatedBytesPerRun()).isLessThan(entities.allocatedBytesPerRun());
+	}
+}
@@ -0,0 +1,63 @@
+package com.portifolio.portfolio_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.portifolio.portfolio_service.cache.PortfolioAggregate;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.SkillDto;
+import com.portifolio.portfolio_service.repository.DtoProjectionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PortfolioExportServiceTest {
+
+	private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+	private final DtoProjectionRepository repository = mock(DtoProjectionRepository.class);
+	private final PortfolioExportService exportService = new PortfolioExportService(repository, objectMapper);
+
+	@Test
+	void writesOneBareDtoPerLineAndClosesTheCursor() throws Exception {
+		AtomicBoolean closed = new AtomicBoolean();
+		when(repository.streamSkills()).thenReturn(Stream.of(skill(1L, "Java"), skill(2L, "Go"))
+				.onClose(() -> closed.set(true)));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long rows = exportService.export(List.of(PortfolioAggregate.SKILLS), out);
+
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertThat(rows).isEqualTo(2);
+		assertThat(lines).hasSize(2).allMatch(line -> line.startsWith("{"));
+		assertThat(objectMapper.readValue(lines.get(1), SkillDto.class).getName()).isEqualTo("Go");
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	void wrapsLinesWithTheirTypeWhenExportingSeveralAggregates() throws Exception {
+		when(repository.streamProjects()).thenReturn(Stream.of(ProjectDto.builder().id(3L).title("Site").build()));
+		when(repository.streamSkills()).thenReturn(Stream.of(skill(1L, "Java")));
+		when(repository.streamExperiences()).thenReturn(Stream.empty());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		exportService.export(List.of(PortfolioAggregate.PROJECTS, PortfolioAggregate.SKILLS,
+				PortfolioAggregate.EXPERIENCES), out);
+
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertThat(lines).hasSize(2);
+		assertThat(objectMapper.readTree(lines.get(0)).path("type").asText()).isEqualTo("projects");
+		assertThat(objectMapper.readTree(lines.get(0)).path("data").path("title").asText()).isEqualTo("Site");
+		assertThat(objectMapper.readTree(lines.get(1)).path("type").asText()).isEqualTo("skills");
+	}
+
+	private static SkillDto skill(Long id, String name) {
+		return SkillDto.builder().id(id).name(name).build();
+	}
+}
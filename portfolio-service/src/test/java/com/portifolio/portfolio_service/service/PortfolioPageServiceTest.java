@@ -0,0 +1,60 @@
+package com.portifolio.portfolio_service.service;
+
+import com.portifolio.portfolio_service.dto.PortfolioPageDto;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.UserProfileDto;
+import com.portifolio.portfolio_service.exception.ProfileNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PortfolioPageServiceTest {
+
+	private final UserProfileService userProfileService = mock(UserProfileService.class);
+	private final ProjectService projectService = mock(ProjectService.class);
+	private final SkillService skillService = mock(SkillService.class);
+	private final ExperienceService experienceService = mock(ExperienceService.class);
+	private final PortfolioPageService pageService = new PortfolioPageService(userProfileService, projectService,
+			skillService, experienceService, new SimpleAsyncTaskExecutor("page-test-"));
+
+	@Test
+	void returnsTheOtherPartsWhenOneTimesOutOrFails() {
+		ReflectionTestUtils.setField(pageService, "partTimeout", Duration.ofMillis(200));
+		when(userProfileService.getUserProfileByUsername("ada")).thenReturn(UserProfileDto.builder().username("ada").build());
+		when(projectService.getAllProjects()).thenAnswer(invocation -> {
+			Thread.sleep(2_000);
+			return List.of();
+		});
+		when(projectService.getFeaturedProjects()).thenReturn(List.of(ProjectDto.builder().id(1L).build()));
+		when(skillService.getAllSkills()).thenThrow(new IllegalStateException("database down"));
+		when(experienceService.getAllExperiences()).thenReturn(List.of());
+
+		long start = System.currentTimeMillis();
+		PortfolioPageDto page = pageService.getPortfolioPage("ada");
+
+		assertThat(System.currentTimeMillis() - start).isLessThan(1_500);
+		assertThat(page.getProfile().getUsername()).isEqualTo("ada");
+		assertThat(page.getFeaturedProjects()).hasSize(1);
+		assertThat(page.getExperiences()).isEmpty();
+		assertThat(page.getProjects()).isNull();
+		assertThat(page.getSkills()).isNull();
+		assertThat(page.isDegraded()).isTrue();
+		assertThat(page.getDegradedParts()).containsExactly("projects", "skills");
+	}
+
+	@Test
+	void unknownUsernameIsNotFound() {
+		ReflectionTestUtils.setField(pageService, "partTimeout", Duration.ofSeconds(1));
+		when(userProfileService.getUserProfileByUsername("nobody")).thenThrow(new ProfileNotFoundException("nobody"));
+
+		assertThatThrownBy(() -> pageService.getPortfolioPage("nobody")).isInstanceOf(ProfileNotFoundException.class);
+	}
+}
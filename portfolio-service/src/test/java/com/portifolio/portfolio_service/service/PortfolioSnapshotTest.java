@@ -0,0 +1,105 @@
+package com.portifolio.portfolio_service.service;
+
+import com.portifolio.portfolio_service.dto.CursorPage;
+import com.portifolio.portfolio_service.dto.ExperienceDto;
+import com.portifolio.portfolio_service.dto.PageCursor;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.SkillDto;
+import com.portifolio.portfolio_service.dto.TagNames;
+import com.portifolio.portfolio_service.dto.UserProfileDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortfolioSnapshotTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+	private final PortfolioSnapshot snapshot = PortfolioSnapshot.of(
+			List.of(project(1L, T0, false, "Backend"),
+					project(2L, T0.plusDays(2), true, "Frontend"),
+					project(3L, T0.plusDays(1), false, "Backend"),
+					project(4L, T0.plusDays(1), true, "Backend"),
+					project(5L, null, false, "Backend")),
+			List.of(SkillDto.builder().id(1L).name("Java").category("Languages").updatedAt(T0).build()),
+			List.of(experience(1L, T0, false), experience(2L, null, true), experience(3L, T0.plusYears(1), true)),
+			List.of(UserProfileDto.builder().id(1L).username("ada").build()));
+
+	@Test
+	void keysetPagesWalkTheQueryOrder() {
+		// updatedAt DESC with NULLs first, ties broken by id DESC
+		assertThat(walk(cursor -> snapshot.projectPage(cursor, 2), ProjectDto::getId)).containsExactly(5L, 2L, 4L, 3L, 1L);
+		assertThat(walk(cursor -> snapshot.experiencePage(cursor, 1), ExperienceDto::getId)).containsExactly(2L, 3L, 1L);
+		assertThat(snapshot.projectPage(null, 10).getNextCursor()).isNull();
+	}
+
+	@Test
+	void pageResumesAfterTheCursorWhenItsItemWasDeleted() {
+		PageCursor cursor = PageCursor.decode(snapshot.projectPage(null, 3).getNextCursor());
+
+		CursorPage<ProjectDto> next = snapshot.withoutProject(4L).projectPage(cursor, 3);
+
+		assertThat(next.getItems()).extracting(ProjectDto::getId).containsExactly(3L, 1L);
+		assertThat(next.getNextCursor()).isNull();
+	}
+
+	@Test
+	void withAndWithoutReturnUpdatedCopies() {
+		PortfolioSnapshot updated = snapshot
+				.withProject(project(1L, T0.plusDays(3), true, "Frontend"))
+				.withoutProject(4L)
+				.withExperience(experience(1L, T0, true))
+				.withoutSkill(1L)
+				.withProfile(UserProfileDto.builder().id(1L).username("lovelace").build());
+
+		assertThat(updated.projects()).extracting(ProjectDto::getId).containsExactly(1L, 2L, 3L, 5L);
+		assertThat(updated.featuredProjects()).extracting(ProjectDto::getId).containsExactly(1L, 2L);
+		assertThat(updated.projectsByCategory("Backend")).extracting(ProjectDto::getId).containsExactly(3L, 5L);
+		assertThat(updated.project(4L)).isNull();
+		assertThat(updated.projectPage(null, 2).getItems()).extracting(ProjectDto::getId).containsExactly(5L, 1L);
+		assertThat(updated.currentExperiences()).extracting(ExperienceDto::getId).containsExactly(2L, 3L, 1L);
+		assertThat(updated.skills()).isEmpty();
+		assertThat(updated.skillsByCategory("Languages")).isEmpty();
+		assertThat(updated.profile("ada")).isNull();
+		assertThat(updated.profile("lovelace")).isNotNull();
+		assertThat(updated.getBuiltAt()).isEqualTo(snapshot.getBuiltAt());
+
+		// The original is untouched
+		assertThat(snapshot.projects()).extracting(ProjectDto::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+		assertThat(snapshot.featuredProjects()).extracting(ProjectDto::getId).containsExactly(2L, 4L);
+		assertThat(snapshot.skills()).hasSize(1);
+		assertThat(snapshot.profile("ada")).isNotNull();
+	}
+
+	private static <T> List<Long> walk(Function<PageCursor, CursorPage<T>> pages, Function<T, Long> idOf) {
+		List<Long> ids = new ArrayList<>();
+		PageCursor cursor = null;
+		do {
+			CursorPage<T> page = pages.apply(cursor);
+			page.getItems().forEach(item -> ids.add(idOf.apply(item)));
+			cursor = PageCursor.decode(page.getNextCursor());
+		} while (cursor != null);
+		return ids;
+	}
+
+	private static ProjectDto project(Long id, LocalDateTime updatedAt, boolean featured, String category) {
+		return ProjectDto.builder()
+				.id(id)
+				.title("Project " + id)
+				.featured(featured)
+				.updatedAt(updatedAt)
+				.categories(TagNames.intern(Set.of(category)))
+				.technologies(TagNames.intern(Set.of()))
+				.build();
+	}
+
+	private static ExperienceDto experience(Long id, LocalDateTime startDate, boolean current) {
+		return ExperienceDto.builder().id(id).startDate(startDate).current(current).build();
+	}
+}
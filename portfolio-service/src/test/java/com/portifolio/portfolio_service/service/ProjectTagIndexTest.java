@@ -0,0 +1,136 @@
+package com.portifolio.portfolio_service.service;
+
+import com.portifolio.portfolio_service.cache.PortfolioAggregate;
+import com.portifolio.portfolio_service.cache.PortfolioChangeEvent;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.ProjectSearchResultDto;
+import com.portifolio.portfolio_service.dto.TagNames;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProjectTagIndexTest {
+
+	private final ProjectService projectService = mock(ProjectService.class);
+	private final ProjectTagIndex index;
+
+	ProjectTagIndexTest() {
+		@SuppressWarnings("unchecked")
+		ObjectProvider<ProjectService> provider = mock(ObjectProvider.class);
+		when(provider.getObject()).thenReturn(projectService);
+		index = new ProjectTagIndex(provider, mock(PlatformTransactionManager.class));
+		when(projectService.loadAllProjects()).thenReturn(List.of(
+				project(3L, Set.of("Backend"), Set.of("Java", "Kafka")),
+				project(1L, Set.of("Backend"), Set.of("Java", "Spring")),
+				project(2L, Set.of("Frontend"), Set.of("React"))));
+	}
+
+	@Test
+	void matchesAllOrAnyTagInIdOrder() {
+		ProjectSearchResultDto all = index.search(List.of("Backend"), List.of("Java"), ProjectTagIndex.Match.ALL);
+		ProjectSearchResultDto any = index.search(List.of("Frontend"), List.of("Kafka"), ProjectTagIndex.Match.ANY);
+
+		assertThat(ids(all.getItems())).containsExactly(1L, 3L);
+		assertThat(ids(any.getItems())).containsExactly(2L, 3L);
+		assertThat(ids(index.search(List.of("Backend"), List.of("React"), ProjectTagIndex.Match.ALL).getItems())).isEmpty();
+		assertThat(ids(index.search(List.of(), List.of(), ProjectTagIndex.Match.ALL).getItems())).containsExactly(1L, 2L, 3L);
+		assertThat(ids(index.byTechnology("Unknown"))).isEmpty();
+	}
+
+	@Test
+	void facetsCountTheMatchesMostFrequentFirst() {
+		ProjectSearchResultDto result = index.search(List.of("Backend"), List.of(), ProjectTagIndex.Match.ALL);
+
+		assertThat(result.getTotal()).isEqualTo(2);
+		assertThat(result.getCategoryFacets()).containsExactly(Map.entry("Backend", 2));
+		assertThat(result.getTechnologyFacets())
+				.containsExactly(Map.entry("Java", 2), Map.entry("Kafka", 1), Map.entry("Spring", 1));
+	}
+
+	@Test
+	void deleteAndReSaveReuseTheSlot() {
+		index.byCategory("Backend");
+
+		index.apply(PortfolioChangeEvent.deleted(PortfolioAggregate.PROJECTS, 1L, 1));
+		assertThat(ids(index.byTechnology("Java"))).containsExactly(3L);
+		assertThat(index.byTechnology("Spring")).isEmpty();
+
+		index.apply(PortfolioChangeEvent.saved(PortfolioAggregate.PROJECTS, 1L, 2,
+				project(1L, Set.of("Frontend"), Set.of("React"))));
+		index.apply(PortfolioChangeEvent.saved(PortfolioAggregate.PROJECTS, 4L, 0,
+				project(4L, Set.of("Frontend"), Set.of("React"))));
+
+		assertThat(ids(index.byTechnology("React"))).containsExactly(1L, 2L, 4L);
+		assertThat(ids(index.byCategory("Backend"))).containsExactly(3L);
+		assertThat(index.search(List.of(), List.of(), ProjectTagIndex.Match.ANY).getTotal()).isEqualTo(4);
+	}
+
+	@Test
+	void compactingDeletedSlotsKeepsIdOrder() {
+		when(projectService.loadAllProjects()).thenReturn(LongStream.rangeClosed(1, 200)
+				.mapToObj(id -> project(id, Set.of(id % 2 == 0 ? "Even" : "Odd"), Set.of("Java")))
+				.toList());
+		index.byCategory("Even");
+
+		// The 100th delete leaves as many dead slots as live ones and compacts the state
+		LongStream.rangeClosed(1, 150).forEach(id -> index.apply(PortfolioChangeEvent.deleted(PortfolioAggregate.PROJECTS, id, 1)));
+		index.apply(PortfolioChangeEvent.saved(PortfolioAggregate.PROJECTS, 160L, 1,
+				project(160L, Set.of("Even"), Set.of("Rust"))));
+		index.apply(PortfolioChangeEvent.saved(PortfolioAggregate.PROJECTS, 201L, 0,
+				project(201L, Set.of("Odd"), Set.of("Java"))));
+
+		assertThat(ids(index.byTechnology("Java"))).hasSize(50).startsWith(151L, 152L).endsWith(200L, 201L)
+				.doesNotContain(160L).isSorted();
+		assertThat(ids(index.byTechnology("Rust"))).containsExactly(160L);
+		assertThat(ids(index.byCategory("Even"))).hasSize(25).startsWith(152L).isSorted();
+		assertThat(index.search(List.of(), List.of(), ProjectTagIndex.Match.ALL).getTotal()).isEqualTo(51);
+	}
+
+	@Test
+	void updateReplacesTheProjectsTags() {
+		index.byCategory("Backend");
+
+		index.apply(PortfolioChangeEvent.saved(PortfolioAggregate.PROJECTS, 3L, 1,
+				project(3L, Set.of("Backend"), Set.of("Go"))));
+
+		assertThat(ids(index.byTechnology("Kafka"))).isEmpty();
+		assertThat(ids(index.byTechnology("Java"))).containsExactly(1L);
+		assertThat(ids(index.byTechnology("Go"))).containsExactly(3L);
+		assertThat(ids(index.byCategory("Backend"))).containsExactly(1L, 3L);
+	}
+
+	@Test
+	void reloadRebuildsFromTheDatabaseOnTheNextRead() {
+		index.byCategory("Backend");
+		when(projectService.loadAllProjects()).thenReturn(List.of(project(5L, Set.of("Backend"), Set.of("Rust"))));
+
+		index.apply(PortfolioChangeEvent.reloaded(PortfolioAggregate.PROJECTS));
+
+		assertThat(ids(index.byCategory("Backend"))).containsExactly(5L);
+		verify(projectService, times(2)).loadAllProjects();
+	}
+
+	private static ProjectDto project(Long id, Set<String> categories, Set<String> technologies) {
+		return ProjectDto.builder()
+				.id(id)
+				.title("Project " + id)
+				.categories(TagNames.intern(categories))
+				.technologies(TagNames.intern(technologies))
+				.build();
+	}
+
+	private static List<Long> ids(List<ProjectDto> projects) {
+		return projects.stream().map(ProjectDto::getId).toList();
+	}
+}
@@ -0,0 +1,136 @@
+package com.portifolio.portfolio_service.service;
+
+import com.portifolio.portfolio_service.cache.PortfolioAggregate;
+import com.portifolio.portfolio_service.cache.PortfolioChangeEvent;
+import com.portifolio.portfolio_service.dto.ExperienceDto;
+import com.portifolio.portfolio_service.dto.ProjectDto;
+import com.portifolio.portfolio_service.dto.SkillDto;
+import com.portifolio.portfolio_service.dto.TagNames;
+import com.portifolio.portfolio_service.dto.TagSuggestionDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TagSuggesterTest {
+
+	private final ProjectService projectService = mock(ProjectService.class);
+	private final SkillService skillService = mock(SkillService.class);
+	private final ExperienceService experienceService = mock(ExperienceService.class);
+	private final TagSuggester suggester = new TagSuggester(provider(projectService), provider(skillService),
+			provider(experienceService), mock(PlatformTransactionManager.class));
+
+	TagSuggesterTest() {
+		when(projectService.loadAllProjects()).thenReturn(List.of(
+				project(1L, Set.of("Java", "JavaScript"), Set.of("Backend")),
+				project(2L, Set.of("java", "Kotlin"), Set.of("Backend")),
+				project(3L, Set.of("Java"), Set.of("Frontend"))));
+		when(experienceService.loadAllExperiences()).thenReturn(List.of(
+				ExperienceDto.builder().id(1L).technologies(TagNames.intern(Set.of("Java"))).build()));
+		when(skillService.loadAllSkills()).thenReturn(List.of(
+				SkillDto.builder().id(1L).name("Jakarta EE").build(),
+				SkillDto.builder().id(2L).name("Go").build()));
+	}
+
+	@Test
+	void prefixMatchesEveryCaseVariantMostUsedFirst() {
+		// "Java" and "java" share the key "java"; the search must step back to the first of them
+		assertThat(values(suggester.suggest("java", TagSuggester.Kind.TECHNOLOGY, 10)))
+				.containsExactly("Java 3", "java 1", "JavaScript 1");
+		assertThat(values(suggester.suggest("  KOT", TagSuggester.Kind.TECHNOLOGY, 10))).containsExactly("Kotlin 1");
+		assertThat(suggester.suggest("rust", TagSuggester.Kind.TECHNOLOGY, 10)).isEmpty();
+	}
+
+	@Test
+	void searchesEveryKindAndKeepsTheTopOfTheLimit() {
+		List<TagSuggestionDto> ja = suggester.suggest("ja", null, 10);
+
+		assertThat(values(ja)).containsExactly("Java 3", "Jakarta EE 1", "java 1", "JavaScript 1");
+		assertThat(ja.get(1).getType()).isEqualTo("SKILL");
+		assertThat(values(suggester.suggest("", null, 2))).containsExactly("Java 3", "Backend 2");
+		assertThat(values(suggester.suggest("", TagSuggester.Kind.CATEGORY, 0))).containsExactly("Backend 2");
+	}
+
+	@Test
+	void changesReplaceTheEntitysTags() {
+		suggester.suggest("", null, 1);
+
+		suggester.apply(PortfolioChangeEvent.saved(PortfolioAggregate.PROJECTS, 2L, 1,
+				project(2L, Set.of("Rust"), Set.of("Backend"))));
+		suggester.apply(PortfolioChangeEvent.deleted(PortfolioAggregate.PROJECTS, 3L, 1));
+		suggester.apply(PortfolioChangeEvent.saved(PortfolioAggregate.SKILLS, 3L, 0,
+				SkillDto.builder().id(3L).name("Java").build()));
+
+		assertThat(values(suggester.suggest("j", TagSuggester.Kind.TECHNOLOGY, 10)))
+				.containsExactly("Java 2", "JavaScript 1");
+		assertThat(values(suggester.suggest("", TagSuggester.Kind.CATEGORY, 10))).containsExactly("Backend 2");
+		assertThat(values(suggester.suggest("r", null, 10))).containsExactly("Rust 1");
+		assertThat(values(suggester.suggest("java", TagSuggester.Kind.SKILL, 10))).containsExactly("Java 1");
+	}
+
+	@Test
+	void aWriteOnlyAdjustsTheTagsItAddedOrDropped() {
+		assertThat(TagSuggester.changes(List.of("Java", "Kafka"), List.of("Java", "Go")))
+				.containsOnly(Map.entry("Kafka", -1), Map.entry("Go", 1));
+		assertThat(TagSuggester.changes(List.of("Java"), List.of("Java"))).isEmpty();
+		assertThat(TagSuggester.changes(null, List.of("Go"))).containsOnly(Map.entry("Go", 1));
+		assertThat(TagSuggester.changes(List.of("Go"), null)).containsOnly(Map.entry("Go", -1));
+	}
+
+	@Test
+	void changedEntriesAreSplicedIntoTheSortedDictionary() {
+		suggester.suggest("", null, 1);
+
+		// New tags at both ends, one count going up, then a tag dropping to zero
+		suggester.apply(PortfolioChangeEvent.saved(PortfolioAggregate.PROJECTS, 4L, 0,
+				project(4L, Set.of("Aardvark", "Kotlin", "Zig"), Set.of("Backend"))));
+		suggester.apply(PortfolioChangeEvent.deleted(PortfolioAggregate.PROJECTS, 2L, 1));
+
+		assertThat(values(suggester.suggest("", TagSuggester.Kind.TECHNOLOGY, 10)))
+				.containsExactly("Java 3", "Aardvark 1", "JavaScript 1", "Kotlin 1", "Zig 1");
+		assertThat(values(suggester.suggest("ja", TagSuggester.Kind.TECHNOLOGY, 10))).containsExactly("Java 3", "JavaScript 1");
+		assertThat(values(suggester.suggest("z", TagSuggester.Kind.TECHNOLOGY, 10))).containsExactly("Zig 1");
+		assertThat(values(suggester.suggest("", TagSuggester.Kind.CATEGORY, 10))).containsExactly("Backend 2", "Frontend 1");
+	}
+
+	@Test
+	void reloadRebuildsOnTheNextLookupUnlessOnlyProfilesChanged() {
+		suggester.suggest("", null, 1);
+
+		suggester.apply(PortfolioChangeEvent.reloaded(PortfolioAggregate.PROFILES));
+		suggester.suggest("", null, 1);
+		verify(projectService, times(1)).loadAllProjects();
+
+		suggester.apply(PortfolioChangeEvent.reloaded(PortfolioAggregate.SKILLS));
+		suggester.suggest("", null, 1);
+		verify(projectService, times(2)).loadAllProjects();
+	}
+
+	private static ProjectDto project(Long id, Set<String> technologies, Set<String> categories) {
+		return ProjectDto.builder()
+				.id(id)
+				.technologies(TagNames.intern(technologies))
+				.categories(TagNames.intern(categories))
+				.build();
+	}
+
+	private static List<String> values(List<TagSuggestionDto> suggestions) {
+		return suggestions.stream().map(suggestion -> suggestion.getValue() + " " + suggestion.getCount()).toList();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> ObjectProvider<T> provider(T bean) {
+		ObjectProvider<T> provider = mock(ObjectProvider.class);
+		when(provider.getObject()).thenReturn(bean);
+		return provider;
+	}
+}